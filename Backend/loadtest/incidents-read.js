@@ -0,0 +1,55 @@
+// Teste de carga k6 para comparar platform threads e virtual threads.
+// Uso: k6 run -e BASE_URL=http://localhost:8080 -e USERNAME=admin -e PASSWORD=123 loadtest/incidents-read.js
+// Rode uma vez com SPRING_PROFILES_ACTIVE=default e outra com virtual-threads, com o mesmo DATABASE_POOL_SIZE,
+// e compare http_reqs/s e o p(99) de http_req_duration do resumo.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '1200', 10);
+
+export const options = {
+    scenarios: {
+        storm: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const login = http.post(`${BASE_URL}/api/login`,
+        JSON.stringify({ username: __ENV.USERNAME || 'admin', password: __ENV.PASSWORD || '123' }),
+        { headers: { 'Content-Type': 'application/json' } });
+    const token = login.json('accessToken');
+
+    const page = http.get(`${BASE_URL}/api/incidents?size=50&includeTotal=false`,
+        { headers: { Authorization: `Bearer ${token}` } });
+    const ids = (page.json('data.content') || []).map((incident) => incident.id);
+
+    return { token, ids };
+}
+
+export default function (data) {
+    const headers = { Authorization: `Bearer ${data.token}` };
+    const roll = Math.random();
+
+    let response;
+    if (roll < 0.6 && data.ids.length > 0) {
+        const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+        response = http.get(`${BASE_URL}/api/incidents/${id}`, { headers, tags: { name: 'detail' } });
+    } else if (roll < 0.9) {
+        response = http.get(`${BASE_URL}/api/incidents?status=OPEN&size=20&includeTotal=false`,
+            { headers, tags: { name: 'list' } });
+    } else {
+        response = http.get(`${BASE_URL}/api/stats`, { headers, tags: { name: 'stats' } });
+    }
+
+    check(response, { 'status 200': (r) => r.status === 200 });
+}
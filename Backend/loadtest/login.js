@@ -0,0 +1,22 @@
+// Benchmark k6 do login: mede logins/s com credenciais repetidas (cache) e com cache expirado.
+// Uso: k6 run -e BASE_URL=http://localhost:8080 -e VUS=<núcleos x 4> loadtest/login.js
+// Divida http_reqs/s pelo número de núcleos do container para obter logins/s por núcleo;
+// rode com security.login.cache-ttl=0s para medir só o BCrypt no custo configurado.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    vus: parseInt(__ENV.VUS || '16', 10),
+    duration: __ENV.DURATION || '1m',
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const response = http.post(`${BASE_URL}/api/login`,
+        JSON.stringify({ username: __ENV.USERNAME || 'admin', password: __ENV.PASSWORD || '123' }),
+        { headers: { 'Content-Type': 'application/json' } });
+
+    check(response, { 'status 200': (r) => r.status === 200 });
+}
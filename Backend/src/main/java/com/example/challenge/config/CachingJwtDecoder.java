@@ -0,0 +1,118 @@
+package com.example.challenge.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * JwtDecoder com cache dos tokens já verificados, indexado pelo SHA-256 do token.
+ * Cada entrada expira no exp do próprio token (limitado a max-ttl); tokens inválidos
+ * nunca entram no cache. Conta acertos, falhas e a latência das decodificações reais.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> verified;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder decodeNanos = new LongAdder();
+    private final LongAccumulator maxDecodeNanos = new LongAccumulator(Math::max, 0);
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maxSize, Duration maxTtl) {
+        this.delegate = delegate;
+        this.verified = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new Expiry<String, Jwt>() {
+                @Override
+                public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+                    return untilExpiry(jwt, maxTtl);
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+                    return untilExpiry(jwt, maxTtl);
+                }
+
+                @Override
+                public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt cached = verified.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long start = System.nanoTime();
+        try {
+            Jwt jwt = delegate.decode(token);
+            verified.put(key, jwt);
+            return jwt;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            decodeNanos.add(elapsed);
+            maxDecodeNanos.accumulate(elapsed);
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getCachedTokens() {
+        return verified.estimatedSize();
+    }
+
+    public double getAverageDecodeMicros() {
+        long count = misses.sum();
+        return count == 0 ? 0.0 : decodeNanos.sum() / 1_000.0 / count;
+    }
+
+    public double getMaxDecodeMicros() {
+        return maxDecodeNanos.get() / 1_000.0;
+    }
+
+    private static long untilExpiry(Jwt jwt, Duration maxTtl) {
+        long cap = maxTtl.toNanos();
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            return cap;
+        }
+        long remaining = Duration.between(Instant.now(), expiresAt).toNanos();
+        return Math.max(0, Math.min(cap, remaining));
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+}
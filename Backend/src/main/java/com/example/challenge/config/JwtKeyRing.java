@@ -0,0 +1,136 @@
+package com.example.challenge.config;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+/**
+ * Conjunto de chaves de assinatura JWT identificadas por kid.
+ * Apenas a chave atual assina; as anteriores continuam verificando até que
+ * o último token emitido com elas expire, o que permite rotacionar sem derrubar sessões.
+ */
+public class JwtKeyRing {
+
+    private final SignatureAlgorithm algorithm;
+    private final Duration retention;
+    private volatile KeyState state;
+
+    public JwtKeyRing(SignatureAlgorithm algorithm, Duration retention) {
+        if (algorithm != SignatureAlgorithm.ES256 && algorithm != SignatureAlgorithm.RS256) {
+            throw new IllegalArgumentException("Unsupported JWT signing algorithm: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        this.retention = retention;
+        this.state = new KeyState(generate(), List.of());
+    }
+
+
+    /**
+     * Gera uma nova chave de assinatura e descarta as aposentadas há mais que o período de retenção.
+     */
+    public synchronized void rotate() {
+        Instant now = Instant.now();
+        List<RetiredKey> retired = new ArrayList<>();
+        retired.add(new RetiredKey(state.current(), now));
+        for (RetiredKey key : state.retired()) {
+            if (key.retiredAt().plus(retention).isAfter(now)) {
+                retired.add(key);
+            }
+        }
+        this.state = new KeyState(generate(), List.copyOf(retired));
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public String getCurrentKeyId() {
+        return state.current().getKeyID();
+    }
+
+    /**
+     * Cabeçalho JWS que aponta para a chave atual.
+     */
+    public JwsHeader signingHeader() {
+        return JwsHeader.with(algorithm).keyId(getCurrentKeyId()).build();
+    }
+
+    /**
+     * Fonte usada pelo encoder: chaves privadas selecionadas pelo kid do cabeçalho,
+     * para que uma rotação concorrente não invalide um cabeçalho já montado.
+     */
+    public JWKSource<SecurityContext> signingKeys() {
+        return (selector, context) -> selector.select(keys(state, false));
+    }
+
+    /**
+     * Fonte usada pelo decoder: chaves públicas atual e aposentadas, selecionadas pelo kid.
+     */
+    public JWKSource<SecurityContext> verificationKeys() {
+        return (selector, context) -> selector.select(publicKeys());
+    }
+
+    /**
+     * Decoder que aceita apenas o algoritmo configurado e escolhe a chave pelo kid.
+     * exp/nbf ficam com os validadores padrão do Spring.
+     */
+    public NimbusJwtDecoder newDecoder() {
+        var jwtProcessor = new DefaultJWTProcessor<SecurityContext>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(
+            JWSAlgorithm.parse(algorithm.getName()), verificationKeys()));
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {});
+        return new NimbusJwtDecoder(jwtProcessor);
+    }
+
+    public JWKSet publicKeys() {
+        return keys(state, true);
+    }
+
+    private static JWKSet keys(KeyState snapshot, boolean publicOnly) {
+        List<JWK> keys = new ArrayList<>(snapshot.retired().size() + 1);
+        keys.add(snapshot.current());
+        for (RetiredKey key : snapshot.retired()) {
+            keys.add(key.jwk());
+        }
+        JWKSet set = new JWKSet(keys);
+        return publicOnly ? set.toPublicJWKSet() : set;
+    }
+
+    private JWK generate() {
+        String keyId = UUID.randomUUID().toString();
+        try {
+            if (algorithm == SignatureAlgorithm.ES256) {
+                return new ECKeyGenerator(Curve.P_256)
+                    .keyID(keyId).keyUse(KeyUse.SIGNATURE).algorithm(JWSAlgorithm.ES256).generate();
+            }
+            return new RSAKeyGenerator(2048)
+                .keyID(keyId).keyUse(KeyUse.SIGNATURE).algorithm(JWSAlgorithm.RS256).generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Erro ao gerar chave " + algorithm + ": " + e.getMessage(), e);
+        }
+    }
+
+
+    private record RetiredKey(JWK jwk, Instant retiredAt) {}
+
+    private record KeyState(JWK current, List<RetiredKey> retired) {}
+}
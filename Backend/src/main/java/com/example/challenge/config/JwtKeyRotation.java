@@ -0,0 +1,31 @@
+package com.example.challenge.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rotaciona periodicamente a chave de assinatura do JwtKeyRing.
+ */
+@Component
+public class JwtKeyRotation {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRotation.class);
+
+    private final JwtKeyRing keyRing;
+
+    @Autowired
+    public JwtKeyRotation(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+
+    @Scheduled(initialDelayString = "${security.jwt.key-rotation-interval-ms:86400000}",
+               fixedDelayString = "${security.jwt.key-rotation-interval-ms:86400000}")
+    public void rotateKeys() {
+        keyRing.rotate();
+        log.info("JWT signing key rotated, current kid {}", keyRing.getCurrentKeyId());
+    }
+}
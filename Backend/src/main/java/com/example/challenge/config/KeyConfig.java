@@ -1,54 +1,44 @@
 package com.example.challenge.config;
 
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-
-import jakarta.annotation.PostConstruct;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 
 /**
- * Configuração para geração automática de chaves RSA para JWT/OAuth2
- * As chaves são geradas dinamicamente na inicialização da aplicação
+ * Configuração das chaves de assinatura JWT/OAuth2.
+ * As chaves são geradas na inicialização (RS256 por padrão, ES256 opcional)
+ * e rotacionadas periodicamente pelo JwtKeyRotation; as anteriores seguem válidas
+ * para verificação pelo tempo de vida de um access token.
+ * <p>
+ * Limitação: as chaves existem só na memória do processo. Cada instância gera o próprio anel,
+ * então com mais de uma réplica um token só é aceito pela instância que o emitiu, e um restart
+ * invalida os access tokens emitidos (o refresh token continua valendo). O /.well-known/jwks.json
+ * publica apenas as chaves desta instância; rodar várias réplicas exige chaves compartilhadas
+ * (keystore ou KMS) carregadas aqui no lugar das geradas.
  */
 @Configuration
 public class KeyConfig {
 
-    private RSAPublicKey publicKey;
-    private RSAPrivateKey privateKey;
+    private static final Logger log = LoggerFactory.getLogger(KeyConfig.class);
 
-    @PostConstruct
-    public void generateKeys() {
-        try {
-            System.out.println("Gerando chaves RSA para OAuth2/JWT...");
-            
-            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
-            keyPairGenerator.initialize(2048);
-            KeyPair keyPair = keyPairGenerator.generateKeyPair();
-            
-            this.publicKey = (RSAPublicKey) keyPair.getPublic();
-            this.privateKey = (RSAPrivateKey) keyPair.getPrivate();
-            
-            System.out.println("Chaves OAuth geradas com sucesso!");
-            System.out.println("   - Algoritmo: RSA 2048 bits");
-            System.out.println("   - Chave pública: " + publicKey.getAlgorithm());
-            System.out.println("   - Chave privada: " + privateKey.getAlgorithm());
-            
-        } catch (Exception e) {
-            throw new RuntimeException("Erro ao gerar chaves RSA: " + e.getMessage(), e);
+    @Bean
+    public JwtKeyRing jwtKeyRing(@Value("${security.jwt.signing-algorithm:RS256}") String algorithm,
+                                 @Value("${security.jwt.access-token-ttl:300s}") Duration accessTokenTtl) {
+        SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.from(algorithm);
+        if (signatureAlgorithm == null) {
+            throw new IllegalArgumentException("Unknown JWT signing algorithm: " + algorithm);
         }
-    }
 
-    @Bean
-    public RSAPublicKey rsaPublicKey() {
-        return this.publicKey;
-    }
+        // Margem de 60s acompanha o clock skew padrão do validador de exp
+        JwtKeyRing keyRing = new JwtKeyRing(signatureAlgorithm, accessTokenTtl.plusSeconds(60));
 
-    @Bean
-    public RSAPrivateKey rsaPrivateKey() {
-        return this.privateKey;
+        log.info("JWT signing keys generated (algorithm {}, current kid {})",
+                 signatureAlgorithm.getName(), keyRing.getCurrentKeyId());
+        return keyRing;
     }
-} 
\ No newline at end of file
+}
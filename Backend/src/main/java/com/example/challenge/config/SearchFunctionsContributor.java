@@ -0,0 +1,49 @@
+package com.example.challenge.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registra no Hibernate as funções de busca textual do PostgreSQL e a agregação
+ * de tags usada pelas listagens por projeção.
+ * O documento de full-text é idêntico à expressão do índice GIN criado na V6 e
+ * as funções de trigrama operam direto nas colunas indexadas na V7, o que permite
+ * ao planner usar os índices a partir das Specifications.
+ */
+public class SearchFunctionsContributor implements FunctionContributor {
+
+    static final String TEXT_SEARCH_CONFIG = "portuguese";
+
+    private static final String DOCUMENT =
+        "(setweight(to_tsvector('" + TEXT_SEARCH_CONFIG + "', coalesce(?1, '')), 'A') || "
+      + "setweight(to_tsvector('" + TEXT_SEARCH_CONFIG + "', coalesce(?2, '')), 'B'))";
+
+    private static final String QUERY = "websearch_to_tsquery('" + TEXT_SEARCH_CONFIG + "', ?3)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+            .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<String> stringType = functionContributions.getTypeConfiguration()
+            .getBasicTypeRegistry().resolve(StandardBasicTypes.STRING);
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+            .getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE);
+
+        functionContributions.getFunctionRegistry()
+            .registerPattern("fts_match", "(" + DOCUMENT + " @@ " + QUERY + ")", booleanType);
+        functionContributions.getFunctionRegistry()
+            .registerPattern("fts_rank", "ts_rank(" + DOCUMENT + ", " + QUERY + ")", doubleType);
+
+        functionContributions.getFunctionRegistry()
+            .registerPattern("trgm_match", "(?1 % ?2)", booleanType);
+        functionContributions.getFunctionRegistry()
+            .registerPattern("trgm_similarity",
+                "greatest(similarity(?1, ?3), similarity(coalesce(?2, ''), ?3))", doubleType);
+
+        // Tags ordenadas e separadas por U+001F, que não sobrevive ao TagUtils.normalizeTags
+        functionContributions.getFunctionRegistry()
+            .registerPattern("tags_agg", "string_agg(?1, chr(31) order by ?1)", stringType);
+    }
+}
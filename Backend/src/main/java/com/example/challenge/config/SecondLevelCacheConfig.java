@@ -0,0 +1,94 @@
+package com.example.challenge.config;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Cache de segundo nível do Hibernate em memória local (Caffeine via JCache).
+ * As regiões são criadas aqui com tamanho e TTL vindos das properties, e o
+ * CacheManager é entregue pronto ao Hibernate.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String INCIDENTS = "incidents";
+    public static final String INCIDENT_TAGS = "incidents.tags";
+    public static final String USERS = "users";
+    public static final String USER_ROLES = "users.roles";
+    public static final String ROLES = "roles";
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    @Value("${cache.second-level.incidents.max-size:10000}")
+    private long incidentsMaxSize;
+
+    @Value("${cache.second-level.incidents.ttl:10m}")
+    private Duration incidentsTtl;
+
+    @Value("${cache.second-level.users.max-size:1000}")
+    private long usersMaxSize;
+
+    @Value("${cache.second-level.users.ttl:30m}")
+    private Duration usersTtl;
+
+    @Value("${cache.second-level.queries.max-size:1000}")
+    private long queriesMaxSize;
+
+    @Value("${cache.second-level.queries.ttl:30m}")
+    private Duration queriesTtl;
+
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager();
+
+        createRegion(cacheManager, INCIDENTS, incidentsMaxSize, incidentsTtl);
+        createRegion(cacheManager, INCIDENT_TAGS, incidentsMaxSize, incidentsTtl);
+        createRegion(cacheManager, USERS, usersMaxSize, usersTtl);
+        createRegion(cacheManager, USER_ROLES, usersMaxSize, usersTtl);
+        createRegion(cacheManager, ROLES, usersMaxSize, usersTtl);
+        createRegion(cacheManager, QUERY_RESULTS, queriesMaxSize, queriesTtl);
+
+        // Os timestamps invalidam o query cache; não podem expirar antes dos resultados
+        createRegion(cacheManager, UPDATE_TIMESTAMPS, null, null);
+
+        return cacheManager;
+    }
+
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+
+    private void createRegion(CacheManager cacheManager, String name, Long maxSize, Duration ttl) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (maxSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        cacheManager.createCache(name, configuration);
+    }
+}
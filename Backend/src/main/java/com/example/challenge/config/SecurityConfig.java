@@ -1,8 +1,8 @@
 package com.example.challenge.config;
 
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -11,30 +11,21 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfigurationSource;
 
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
-
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 public class SecurityConfig {
 
-    private final RSAPublicKey publicKey;
-    private final RSAPrivateKey privateKey;
+    private final JwtKeyRing keyRing;
     private final CorsConfigurationSource corsConfigurationSource;
 
-    public SecurityConfig(RSAPublicKey publicKey, RSAPrivateKey privateKey, CorsConfigurationSource corsConfigurationSource) {
-        this.publicKey = publicKey;
-        this.privateKey = privateKey;
+    public SecurityConfig(JwtKeyRing keyRing, CorsConfigurationSource corsConfigurationSource) {
+        this.keyRing = keyRing;
         this.corsConfigurationSource = corsConfigurationSource;
     }
 
@@ -43,7 +34,11 @@ public class SecurityConfig {
 
         http.authorizeHttpRequests(authorize -> authorize
                 .requestMatchers("/api/login").permitAll()
+                .requestMatchers("POST", "/api/token/refresh", "/api/logout").permitAll()
                 .requestMatchers("POST", "/api/users").permitAll()                
+                .requestMatchers("GET", "/.well-known/jwks.json").permitAll()
+                // O stream confere o Bearer ou um ticket de uso único (EventSource não envia Authorization)
+                .requestMatchers("GET", "/api/incidents/events").permitAll()
                 .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
                 .anyRequest().authenticated())
         .cors(cors -> cors.configurationSource(corsConfigurationSource))
@@ -57,19 +52,18 @@ public class SecurityConfig {
 
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(publicKey).build();
+    public CachingJwtDecoder jwtDecoder(@Value("${security.jwt.decoder-cache.max-size:50000}") long maxSize,
+                                        @Value("${security.jwt.decoder-cache.max-ttl:10m}") Duration maxTtl) {
+        return new CachingJwtDecoder(keyRing.newDecoder(), maxSize, maxTtl);
     }
 
     @Bean
     public JwtEncoder jwtEncoder() {
-        JWK jwk = new RSAKey.Builder(this.publicKey).privateKey(this.privateKey).build();
-        var jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+        return new NimbusJwtEncoder(keyRing.signingKeys());
     }
 
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bCryptPasswordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
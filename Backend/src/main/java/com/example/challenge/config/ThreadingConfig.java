@@ -0,0 +1,47 @@
+package com.example.challenge.config;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Informa no startup o modo de execução das requisições (platform ou virtual threads)
+ * e o tamanho do pool JDBC, que com virtual threads passa a ser o limite real de
+ * concorrência no banco.
+ */
+@Configuration
+public class ThreadingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    private final Environment environment;
+    private final DataSource dataSource;
+
+    public ThreadingConfig(Environment environment, DataSource dataSource) {
+        this.environment = environment;
+        this.dataSource = dataSource;
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportExecutionMode() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        boolean active = Threading.VIRTUAL.isActive(environment);
+        if (requested && !active) {
+            log.warn("spring.threads.virtual.enabled=true ignored: virtual threads need Java 21+, running on {}",
+                     JavaVersion.getJavaVersion());
+        }
+
+        Integer poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : null;
+        log.info("Request execution on {} threads; JDBC pool size {}", active ? "virtual" : "platform", poolSize);
+    }
+}
@@ -4,12 +4,16 @@ import com.example.challenge.dto.request.CommentCreateDto;
 import com.example.challenge.dto.response.CommentResponseDto;
 import com.example.challenge.service.CommentService;
 import com.example.challenge.shared.dto.ApiResponse;
+import com.example.challenge.shared.util.HttpCacheUtils;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,10 +40,17 @@ public class CommentController {
     }
 
     @GetMapping("/{id}/comments")
-    public ResponseEntity<ApiResponse<List<CommentResponseDto>>> getCommentsByIncident(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<List<CommentResponseDto>>> getCommentsByIncident(@PathVariable UUID id,
+                                                                                       WebRequest request) {
+        LocalDateTime lastModified = commentService.findCommentsLastModified(id);
+        if (request.checkNotModified(HttpCacheUtils.commentsETag(id, lastModified),
+                                     HttpCacheUtils.toEpochMillis(lastModified))) {
+            return null;
+        }
+        
         List<CommentResponseDto> comments = commentService.findCommentsByIncident(id);
         ApiResponse<List<CommentResponseDto>> response = ApiResponse.success(comments);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(response);
     }
     
     @GetMapping("/comments/{id}")
@@ -1,23 +1,42 @@
 package com.example.challenge.controller;
 
+import com.example.challenge.dto.request.BulkStatusUpdateDto;
 import com.example.challenge.dto.request.IncidentCreateDto;
+import com.example.challenge.dto.request.IncidentFilterDto;
 import com.example.challenge.dto.request.StatusUpdateDto;
+import com.example.challenge.dto.response.BulkCreateResponseDto;
+import com.example.challenge.dto.response.BulkStatusUpdateResponseDto;
 import com.example.challenge.dto.response.IncidentResponseDto;
-import com.example.challenge.entity.IncidentPriority;
-import com.example.challenge.entity.Status;
+import com.example.challenge.service.IncidentBulkService;
+import com.example.challenge.service.IncidentExportService;
 import com.example.challenge.service.IncidentService;
 import com.example.challenge.shared.dto.ApiResponse;
+import com.example.challenge.shared.dto.CursorPageResponse;
 import com.example.challenge.shared.dto.PageResponse;
+import com.example.challenge.shared.util.FilterUtils;
+import com.example.challenge.shared.util.HttpCacheUtils;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.util.TreeMap;
 import java.util.UUID;
 
 
@@ -25,36 +44,114 @@ import java.util.UUID;
 @RequestMapping("/api/incidents")
 public class IncidentController {
 
+    private static final String DEFAULT_SORT = "createdAt,desc";
+    private static final String RELEVANCE_SORT = "relevance";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final IncidentService incidentService;
+    private final IncidentExportService incidentExportService;
+    private final IncidentBulkService incidentBulkService;
 
     @Autowired
-    public IncidentController(IncidentService incidentService) {
+    public IncidentController(IncidentService incidentService,
+                              IncidentExportService incidentExportService,
+                              IncidentBulkService incidentBulkService) {
         this.incidentService = incidentService;
+        this.incidentExportService = incidentExportService;
+        this.incidentBulkService = incidentBulkService;
     }
 
 
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<IncidentResponseDto>>> getAllIncidents(
-            @RequestParam(required = false) Status status,
-            @RequestParam(required = false) IncidentPriority priority,
-            @RequestParam(required = false) String q,
+            @ParameterObject IncidentFilterDto filter,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            WebRequest request) {
+        
+        if (sort == null) {
+            boolean rankByRelevance = filter.getSearchMode() != FilterUtils.SearchMode.CONTAINS && filter.hasSearchTerm();
+            sort = rankByRelevance ? RELEVANCE_SORT : DEFAULT_SORT;
+        }
         
-        Pageable pageable = createPageable(page, size, sort);
-        PageResponse<IncidentResponseDto> incidents = incidentService.findAll(status, priority, q, pageable);
+        Pageable pageable = createPageable(Math.max(0, page), pageSize(size), sort);
+        PageResponse<IncidentResponseDto> incidents = incidentService.findAll(filter.toFilters(), pageable, includeTotal);
+        if (request.checkNotModified(HttpCacheUtils.listETag(queryString(request), incidents))) {
+            return null;
+        }
         
         ApiResponse<PageResponse<IncidentResponseDto>> response = ApiResponse.success(incidents);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
+    }
+
+
+    @GetMapping(params = "pagination=cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<IncidentResponseDto>>> getIncidentsByCursor(
+            @ParameterObject IncidentFilterDto filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+        
+        CursorPageResponse<IncidentResponseDto> incidents =
+            incidentService.findAllByCursor(filter.toFilters(), cursor, pageSize(size));
+        if (request.checkNotModified(HttpCacheUtils.listETag(queryString(request), incidents))) {
+            return null;
+        }
+        
+        ApiResponse<CursorPageResponse<IncidentResponseDto>> response = ApiResponse.success(incidents);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
+    }
+
+
+    @GetMapping("/active")
+    public ResponseEntity<ApiResponse<CursorPageResponse<IncidentResponseDto>>> getActiveIncidents(
+            @ParameterObject IncidentFilterDto filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+        
+        CursorPageResponse<IncidentResponseDto> incidents =
+            incidentService.findActive(filter.toFilters(), cursor, pageSize(size));
+        if (request.checkNotModified(HttpCacheUtils.listETag(queryString(request), incidents))) {
+            return null;
+        }
+        
+        ApiResponse<CursorPageResponse<IncidentResponseDto>> response = ApiResponse.success(incidents);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
+    }
+
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportIncidents(
+            @ParameterObject IncidentFilterDto filter,
+            @RequestParam(defaultValue = "NDJSON") IncidentExportService.ExportFormat format) {
+        
+        // Validação fora do corpo: depois que o streaming começa, um erro só truncaria a resposta
+        IncidentExportService.ExportQuery query = incidentExportService.prepare(filter.toFilters());
+        StreamingResponseBody body = outputStream -> incidentExportService.export(query, format, outputStream);
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"incidents." + format.getExtension() + "\"")
+            .body(body);
     }
 
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<IncidentResponseDto>> getIncidentById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<IncidentResponseDto>> getIncidentById(@PathVariable UUID id, WebRequest request) {
+        // Validadores do próprio DTO: um acerto no cache responde, inclusive com 304, sem ir ao banco
         IncidentResponseDto incident = incidentService.findById(id);
+        if (request.checkNotModified(HttpCacheUtils.incidentETag(id, incident.getUpdatedAt()),
+                                     HttpCacheUtils.toEpochMillis(incident.getUpdatedAt()))) {
+            return null;
+        }
+        
         ApiResponse<IncidentResponseDto> response = ApiResponse.success(incident);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
     }
 
 
@@ -66,6 +163,26 @@ public class IncidentController {
     }
 
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+        mediaType = MediaType.APPLICATION_JSON_VALUE,
+        array = @ArraySchema(schema = @Schema(implementation = IncidentCreateDto.class))))
+    public ResponseEntity<ApiResponse<BulkCreateResponseDto>> createIncidentsBulk(
+            HttpServletRequest request) throws IOException {
+        
+        // Lido como stream para o limite de itens valer antes do corpo inteiro ser desserializado
+        return bulkResponse(incidentBulkService.createAllFromJsonArray(request.getInputStream()));
+    }
+
+
+    @PostMapping(value = "/bulk", consumes = NDJSON_MEDIA_TYPE)
+    public ResponseEntity<ApiResponse<BulkCreateResponseDto>> createIncidentsBulkNdjson(
+            HttpServletRequest request) throws IOException {
+        
+        return bulkResponse(incidentBulkService.createAllFromNdjson(request.getReader()));
+    }
+
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<IncidentResponseDto>> updateIncident(
             @PathVariable UUID id, 
@@ -88,6 +205,19 @@ public class IncidentController {
     }
 
 
+    @PatchMapping("/status")
+    public ResponseEntity<ApiResponse<BulkStatusUpdateResponseDto>> updateIncidentStatusBulk(
+            @ParameterObject IncidentFilterDto filter,
+            @Valid @RequestBody BulkStatusUpdateDto bulkDto) {
+        
+        BulkStatusUpdateResponseDto result = incidentService.updateStatusBulk(
+            filter.toFilters(), bulkDto.getIds(), bulkDto.getStatus());
+        ApiResponse<BulkStatusUpdateResponseDto> response = ApiResponse.success(
+            String.format("%d incidents moved to %s", result.affected(), result.status()), result);
+        return ResponseEntity.ok(response);
+    }
+
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAuthority('ADMIN')")
     public ResponseEntity<ApiResponse<Void>> deleteIncident(@PathVariable UUID id) {
@@ -97,10 +227,25 @@ public class IncidentController {
     }
 
 
+    private ResponseEntity<ApiResponse<BulkCreateResponseDto>> bulkResponse(BulkCreateResponseDto result) {
+        HttpStatus status = result.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        String message = String.format("Bulk import processed: %d created, %d failed",
+            result.getCreated(), result.getFailed());
+        
+        ApiResponse<BulkCreateResponseDto> response = new ApiResponse<>(result.getFailed() == 0, message, result);
+        return ResponseEntity.status(status).body(response);
+    }
+
+
     private Pageable createPageable(int page, int size, String sort) {
         try {
             String[] sortParams = sort.split(",");
             String field = sortParams[0];
+            
+            if (RELEVANCE_SORT.equalsIgnoreCase(field)) {
+                return PageRequest.of(page, size);
+            }
+            
             String direction = sortParams.length > 1 ? sortParams[1] : "asc";
             
             Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) 
@@ -113,4 +258,18 @@ public class IncidentController {
             return PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         }
     }
+
+    /**
+     * Tamanho de página entre 1 e MAX_PAGE_SIZE, para nenhum cliente pedir a tabela inteira de uma vez.
+     */
+    private static int pageSize(int size) {
+        return Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+    }
+
+    private static String queryString(WebRequest request) {
+        StringBuilder canonical = new StringBuilder();
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) ->
+            canonical.append(name).append('=').append(String.join(",", values)).append('&'));
+        return canonical.toString();
+    }
 }
@@ -0,0 +1,77 @@
+package com.example.challenge.controller;
+
+import com.example.challenge.dto.response.EventStreamTicketResponse;
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+import com.example.challenge.service.EventStreamTicketService;
+import com.example.challenge.service.IncidentEventStream;
+import com.example.challenge.shared.dto.ApiResponse;
+import com.example.challenge.shared.util.TagUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.UUID;
+
+
+@RestController
+@RequestMapping("/api/incidents/events")
+public class IncidentEventController {
+
+    private final IncidentEventStream eventStream;
+    private final EventStreamTicketService ticketService;
+
+    @Autowired
+    public IncidentEventController(IncidentEventStream eventStream, EventStreamTicketService ticketService) {
+        this.eventStream = eventStream;
+        this.ticketService = ticketService;
+    }
+
+
+    /**
+     * Aceita o Bearer token ou, para o EventSource do navegador, um ticket de uso único em ?ticket=.
+     * Sem nenhum dos dois a resposta é 401 sem corpo, já que o cliente só aceita text/event-stream.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(required = false) String ticket,
+            @RequestParam(required = false) List<Status> status,
+            @RequestParam(required = false) List<IncidentPriority> priority,
+            @RequestParam(required = false) List<String> tag) {
+        
+        if (jwt == null && !ticketService.consume(ticket)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        SseEmitter emitter = eventStream.subscribe(
+            new IncidentEventStream.Filter(status, priority, TagUtils.normalizeTags(tag)));
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        
+        return ResponseEntity.ok()
+            .header("X-Accel-Buffering", "no")
+            .body(emitter);
+    }
+
+
+    @PostMapping("/tickets")
+    public ResponseEntity<ApiResponse<EventStreamTicketResponse>> issueTicket(@AuthenticationPrincipal Jwt jwt) {
+        String ticket = ticketService.issue(UUID.fromString(jwt.getSubject()));
+        
+        ApiResponse<EventStreamTicketResponse> response = ApiResponse.success(
+            new EventStreamTicketResponse(ticket, ticketService.getTicketTtl().toSeconds()));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.challenge.controller;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -11,26 +17,65 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.example.challenge.entity.Incident;
+import com.example.challenge.config.CachingJwtDecoder;
 import com.example.challenge.entity.IncidentPriority;
 import com.example.challenge.entity.Status;
-import com.example.challenge.repository.IncidentRepository;
+import com.example.challenge.repository.IncidentCountProjection;
+import com.example.challenge.service.IncidentStatsCounters;
+
+import jakarta.persistence.EntityManagerFactory;
 
 @RestController
 @RequestMapping("/api/stats")
 public class StatsController {
 
     @Autowired
-    private IncidentRepository incidentRepository;
+    private IncidentStatsCounters statsCounters;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CachingJwtDecoder jwtDecoder;
 
     public static class IncidentStats {
         private Map<String, Long> byStatus;
         private Map<String, Long> byPriority;
+        private Map<String, Map<String, Long>> byStatusAndPriority;
         private Long total;
         
         public IncidentStats() {
             this.byStatus = new HashMap<>();
             this.byPriority = new HashMap<>();
+            this.byStatusAndPriority = new HashMap<>();
+        }
+        
+        public static IncidentStats fromCube(List<IncidentCountProjection> cube) {
+            IncidentStats stats = new IncidentStats();
+            
+            for (Status status : Status.values()) {
+                stats.byStatus.put(status.name(), 0L);
+                Map<String, Long> row = new HashMap<>();
+                for (IncidentPriority priority : IncidentPriority.values()) {
+                    row.put(priority.name(), 0L);
+                }
+                stats.byStatusAndPriority.put(status.name(), row);
+            }
+            for (IncidentPriority priority : IncidentPriority.values()) {
+                stats.byPriority.put(priority.name(), 0L);
+            }
+            
+            long total = 0;
+            for (IncidentCountProjection cell : cube) {
+                stats.byStatus.merge(cell.getStatus().name(), cell.getTotal(), Long::sum);
+                stats.byPriority.merge(cell.getPriority().name(), cell.getTotal(), Long::sum);
+                stats.byStatusAndPriority.get(cell.getStatus().name())
+                    .put(cell.getPriority().name(), cell.getTotal());
+                total += cell.getTotal();
+            }
+            stats.total = total;
+            
+            return stats;
         }
         
         public Map<String, Long> getByStatus() {
@@ -49,6 +94,14 @@ public class StatsController {
             this.byPriority = byPriority;
         }
         
+        public Map<String, Map<String, Long>> getByStatusAndPriority() {
+            return byStatusAndPriority;
+        }
+        
+        public void setByStatusAndPriority(Map<String, Map<String, Long>> byStatusAndPriority) {
+            this.byStatusAndPriority = byStatusAndPriority;
+        }
+        
         public Long getTotal() {
             return total;
         }
@@ -58,6 +111,54 @@ public class StatsController {
         }
     }
 
+    public static class CacheRegionStats {
+        private long hits;
+        private long misses;
+        private long puts;
+        private double hitRatio;
+        
+        public CacheRegionStats() {}
+        
+        public CacheRegionStats(long hits, long misses, long puts) {
+            this.hits = hits;
+            this.misses = misses;
+            this.puts = puts;
+            this.hitRatio = hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+        }
+        
+        public long getHits() {
+            return hits;
+        }
+        
+        public void setHits(long hits) {
+            this.hits = hits;
+        }
+        
+        public long getMisses() {
+            return misses;
+        }
+        
+        public void setMisses(long misses) {
+            this.misses = misses;
+        }
+        
+        public long getPuts() {
+            return puts;
+        }
+        
+        public void setPuts(long puts) {
+            this.puts = puts;
+        }
+        
+        public double getHitRatio() {
+            return hitRatio;
+        }
+        
+        public void setHitRatio(double hitRatio) {
+            this.hitRatio = hitRatio;
+        }
+    }
+
     @GetMapping
     public ResponseEntity<IncidentStats> getStats() {
         return getIncidentStats();
@@ -66,33 +167,56 @@ public class StatsController {
     @GetMapping("/incidents")
     public ResponseEntity<IncidentStats> getIncidentStats() {
         try {
-            List<Incident> allIncidents = incidentRepository.findAll();
-            
-            IncidentStats stats = new IncidentStats();
-            stats.setTotal((long) allIncidents.size());
-            
-            Map<String, Long> statusCounts = new HashMap<>();
-            for (Status status : Status.values()) {
-                long count = allIncidents.stream()
-                    .filter(incident -> incident.getStatus() == status)
-                    .count();
-                statusCounts.put(status.name(), count);
-            }
-            stats.setByStatus(statusCounts);
-            
-            Map<String, Long> priorityCounts = new HashMap<>();
-            for (IncidentPriority priority : IncidentPriority.values()) {
-                long count = allIncidents.stream()
-                    .filter(incident -> incident.getPriority() == priority)
-                    .count();
-                priorityCounts.put(priority.name(), count);
-            }
-            stats.setByPriority(priorityCounts);
+            List<IncidentCountProjection> cube = statsCounters.snapshot();
             
-            return ResponseEntity.ok(stats);
+            return ResponseEntity.ok(IncidentStats.fromCube(cube));
             
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Acertos e falhas do cache de segundo nível por região, mais o total do query cache.
+     * Responde 404 enquanto hibernate.generate_statistics estiver desligado (padrão).
+     */
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, CacheRegionStats>> getCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        Map<String, CacheRegionStats> regions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null) {
+                regions.put(regionName, new CacheRegionStats(
+                    region.getHitCount(), region.getMissCount(), region.getPutCount()));
+            }
+        }
+        regions.put("queries", new CacheRegionStats(statistics.getQueryCacheHitCount(),
+            statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        
+        return ResponseEntity.ok(regions);
+    }
+    
+    /**
+     * Eficiência do cache de JWTs verificados e latência das verificações de assinatura reais.
+     */
+    @GetMapping("/jwt")
+    public ResponseEntity<Map<String, Object>> getJwtStats() {
+        long hits = jwtDecoder.getHits();
+        long misses = jwtDecoder.getMisses();
+        
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        stats.put("cachedTokens", jwtDecoder.getCachedTokens());
+        stats.put("avgDecodeMicros", jwtDecoder.getAverageDecodeMicros());
+        stats.put("maxDecodeMicros", jwtDecoder.getMaxDecodeMicros());
+        
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -1,64 +1,97 @@
 package com.example.challenge.controller;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.challenge.config.JwtKeyRing;
 import com.example.challenge.dto.request.LoginRequest;
+import com.example.challenge.dto.request.RefreshTokenRequest;
 import com.example.challenge.dto.response.LoginResponse;
-import com.example.challenge.entity.Role;
-import com.example.challenge.repository.UsersRepository;
+import com.example.challenge.service.LoginService;
+import com.example.challenge.service.RefreshTokenService;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @RestController
 public class TokenController {
 
+    /** Curto para que uma chave recém-rotacionada chegue logo a quem verifica tokens pelo JWKS. */
+    private static final Duration JWKS_MAX_AGE = Duration.ofSeconds(60);
+
     private final JwtEncoder jwtEncoder;
-    private final UsersRepository userRepository;
-    private BCryptPasswordEncoder passwordEncoder;
+    private final JwtKeyRing keyRing;
+    private final LoginService loginService;
+    private final RefreshTokenService refreshTokenService;
+    private final Duration accessTokenTtl;
 
     public TokenController(JwtEncoder jwtEncoder,
-                           UsersRepository userRepository,
-                           BCryptPasswordEncoder passwordEncoder) {
+                           JwtKeyRing keyRing,
+                           LoginService loginService,
+                           RefreshTokenService refreshTokenService,
+                           @Value("${security.jwt.access-token-ttl:300s}") Duration accessTokenTtl) {
         this.jwtEncoder = jwtEncoder;
-        this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.keyRing = keyRing;
+        this.loginService = loginService;
+        this.refreshTokenService = refreshTokenService;
+        this.accessTokenTtl = accessTokenTtl;
     }
 
     @PostMapping("/api/login")
     public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest loginRequest) {
-        var user = userRepository.findByUsername(loginRequest.username());
+        var user = loginService.authenticate(loginRequest);
+        var refreshToken = refreshTokenService.issue(user.userId());
 
-        if (user.isEmpty() || !user.get().isLoginCorrect(loginRequest, passwordEncoder)) {
-            throw new BadCredentialsException("user or password is invalid!");
-        }
+        return ResponseEntity.ok(tokenResponse(user, refreshToken));
+    }
 
-        var now = Instant.now();
-        var expiresIn = 300L;
+    @PostMapping("/api/token/refresh")
+    public ResponseEntity<LoginResponse> refresh(@RequestBody RefreshTokenRequest refreshRequest) {
+        var rotation = refreshTokenService.rotate(refreshRequest.refreshToken());
+
+        return ResponseEntity.ok(tokenResponse(rotation.login(), rotation.refreshToken()));
+    }
+
+    @PostMapping("/api/logout")
+    public ResponseEntity<Void> logout(@RequestBody RefreshTokenRequest refreshRequest) {
+        refreshTokenService.revoke(refreshRequest.refreshToken());
 
-        var scopes = user.get().getRoles()
-                .stream()
-                .map(Role::getName)
-                .collect(Collectors.joining(" "));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Chaves públicas da instância (atual e aposentadas ainda válidas), sem material privado.
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(JWKS_MAX_AGE).cachePublic())
+                .body(keyRing.publicKeys().toJSONObject());
+    }
+
+    private LoginResponse tokenResponse(LoginService.VerifiedLogin user, String refreshToken) {
+        var now = Instant.now();
+        var expiresIn = accessTokenTtl.toSeconds();
 
         var claims = JwtClaimsSet.builder()
                 .issuer("mybackend")
-                .subject(user.get().getUserId().toString())
+                .subject(user.userId().toString())
                 .issuedAt(now)
                 .expiresAt(now.plusSeconds(expiresIn))
-                .claim("scope", scopes)
+                .claim("scope", user.scopes())
                 .build();
 
-        var jwtValue = jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        var jwtValue = jwtEncoder.encode(JwtEncoderParameters.from(keyRing.signingHeader(), claims)).getTokenValue();
 
-        return ResponseEntity.ok(new LoginResponse(jwtValue, expiresIn));
+        return new LoginResponse(jwtValue, expiresIn, refreshToken, refreshTokenService.getRefreshTokenTtl().toSeconds());
     }
 }
\ No newline at end of file
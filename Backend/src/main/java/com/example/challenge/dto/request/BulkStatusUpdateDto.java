@@ -0,0 +1,42 @@
+package com.example.challenge.dto.request;
+
+import com.example.challenge.entity.Status;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+
+public class BulkStatusUpdateDto {
+    
+    @NotNull(message = "Status is required")
+    private Status status;
+    
+    @Size(max = 10000, message = "At most 10000 ids per request")
+    private List<UUID> ids;
+    
+    public BulkStatusUpdateDto() {}
+    
+    public BulkStatusUpdateDto(Status status, List<UUID> ids) {
+        this.status = status;
+        this.ids = ids;
+    }
+    
+
+    public Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+    
+    public List<UUID> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<UUID> ids) {
+        this.ids = ids;
+    }
+}
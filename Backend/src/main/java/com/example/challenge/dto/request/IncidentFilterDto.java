@@ -0,0 +1,131 @@
+package com.example.challenge.dto.request;
+
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+import com.example.challenge.shared.util.FilterUtils;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+public class IncidentFilterDto {
+
+    private Status status;
+
+    private IncidentPriority priority;
+
+    private String q;
+
+    private FilterUtils.SearchMode searchMode = FilterUtils.SearchMode.CONTAINS;
+
+    private List<String> tags;
+
+    private String responsibleEmail;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedTo;
+
+    public IncidentFilterDto() {}
+
+
+    public FilterUtils.IncidentFilters toFilters() {
+        return new FilterUtils.IncidentFilters(
+            status, priority, q, tags, responsibleEmail,
+            createdFrom, createdTo, updatedFrom, updatedTo, searchMode);
+    }
+
+    public boolean hasSearchTerm() {
+        return q != null && !q.isBlank();
+    }
+
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public IncidentPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(IncidentPriority priority) {
+        this.priority = priority;
+    }
+
+    public String getQ() {
+        return q;
+    }
+
+    public void setQ(String q) {
+        this.q = q;
+    }
+
+    public FilterUtils.SearchMode getSearchMode() {
+        return searchMode;
+    }
+
+    public void setSearchMode(FilterUtils.SearchMode searchMode) {
+        this.searchMode = searchMode;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public String getResponsibleEmail() {
+        return responsibleEmail;
+    }
+
+    public void setResponsibleEmail(String responsibleEmail) {
+        this.responsibleEmail = responsibleEmail;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(LocalDateTime createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(LocalDateTime createdTo) {
+        this.createdTo = createdTo;
+    }
+
+    public LocalDateTime getUpdatedFrom() {
+        return updatedFrom;
+    }
+
+    public void setUpdatedFrom(LocalDateTime updatedFrom) {
+        this.updatedFrom = updatedFrom;
+    }
+
+    public LocalDateTime getUpdatedTo() {
+        return updatedTo;
+    }
+
+    public void setUpdatedTo(LocalDateTime updatedTo) {
+        this.updatedTo = updatedTo;
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.challenge.dto.request;
+
+public record RefreshTokenRequest(String refreshToken) {
+    
+}
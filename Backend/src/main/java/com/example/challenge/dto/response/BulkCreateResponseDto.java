@@ -0,0 +1,54 @@
+package com.example.challenge.dto.response;
+
+import java.util.List;
+
+
+public class BulkCreateResponseDto {
+    
+    private int total;
+    private int created;
+    private int failed;
+    private List<BulkItemResultDto> results;
+    
+    public BulkCreateResponseDto() {}
+    
+    public BulkCreateResponseDto(List<BulkItemResultDto> results) {
+        this.results = results;
+        this.total = results.size();
+        this.created = (int) results.stream().filter(BulkItemResultDto::isSuccess).count();
+        this.failed = this.total - this.created;
+    }
+    
+
+    public int getTotal() {
+        return total;
+    }
+    
+    public void setTotal(int total) {
+        this.total = total;
+    }
+    
+    public int getCreated() {
+        return created;
+    }
+    
+    public void setCreated(int created) {
+        this.created = created;
+    }
+    
+    public int getFailed() {
+        return failed;
+    }
+    
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+    
+    public List<BulkItemResultDto> getResults() {
+        return results;
+    }
+    
+    public void setResults(List<BulkItemResultDto> results) {
+        this.results = results;
+    }
+}
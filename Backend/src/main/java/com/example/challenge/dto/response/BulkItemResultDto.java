@@ -0,0 +1,67 @@
+package com.example.challenge.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+import java.util.UUID;
+
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResultDto {
+    
+    private int index;
+    private boolean success;
+    private UUID id;
+    private Map<String, String> errors;
+    
+    public BulkItemResultDto() {}
+    
+    public BulkItemResultDto(int index, boolean success, UUID id, Map<String, String> errors) {
+        this.index = index;
+        this.success = success;
+        this.id = id;
+        this.errors = errors;
+    }
+    
+    
+    public static BulkItemResultDto created(int index, UUID id) {
+        return new BulkItemResultDto(index, true, id, null);
+    }
+    
+    public static BulkItemResultDto failed(int index, Map<String, String> errors) {
+        return new BulkItemResultDto(index, false, null, errors);
+    }
+    
+
+    public int getIndex() {
+        return index;
+    }
+    
+    public void setIndex(int index) {
+        this.index = index;
+    }
+    
+    public boolean isSuccess() {
+        return success;
+    }
+    
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+    
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(Map<String, String> errors) {
+        this.errors = errors;
+    }
+}
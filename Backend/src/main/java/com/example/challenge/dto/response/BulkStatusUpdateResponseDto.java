@@ -0,0 +1,14 @@
+package com.example.challenge.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.challenge.entity.Status;
+
+/**
+ * skippedIds: ids pedidos que não foram movidos (inexistentes, fora do filtro, arquivados
+ * fora do intervalo de datas ou já no status alvo).
+ */
+public record BulkStatusUpdateResponseDto(Status status, int affected, List<UUID> skippedIds) {
+    
+}
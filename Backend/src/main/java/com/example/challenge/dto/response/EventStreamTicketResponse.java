@@ -0,0 +1,5 @@
+package com.example.challenge.dto.response;
+
+public record EventStreamTicketResponse(String ticket, Long expiresIn) {
+
+}
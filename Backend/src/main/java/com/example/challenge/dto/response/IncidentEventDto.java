@@ -0,0 +1,147 @@
+package com.example.challenge.dto.response;
+
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IncidentEventDto {
+    
+    public enum Type {
+        INCIDENT_CREATED,
+        INCIDENT_UPDATED,
+        INCIDENT_STATUS_CHANGED,
+        INCIDENT_DELETED,
+        INCIDENTS_CREATED,
+        INCIDENTS_STATUS_CHANGED,
+        COMMENT_CREATED,
+        COMMENT_UPDATED,
+        COMMENT_DELETED
+    }
+    
+    private Type type;
+    private UUID incidentId;
+    private UUID commentId;
+    private Status status;
+    private Status previousStatus;
+    private IncidentPriority priority;
+    private List<String> tags;
+    private List<UUID> incidentIds;
+    private Integer affected;
+    private LocalDateTime occurredAt;
+    
+    public IncidentEventDto() {}
+    
+    public IncidentEventDto(Type type, UUID incidentId, UUID commentId, Status status,
+                            IncidentPriority priority, List<String> tags) {
+        this.type = type;
+        this.incidentId = incidentId;
+        this.commentId = commentId;
+        this.status = status;
+        this.priority = priority;
+        this.tags = tags;
+        this.occurredAt = LocalDateTime.now();
+    }
+    
+    /**
+     * Evento de operação em massa: os ids afetados (um lote limitado; operações maiores geram
+     * vários eventos), a quantidade, o status resultante, a prioridade comum ao lote e a união
+     * das tags dos incidents, para que os filtros dos assinantes valham também para lotes.
+     */
+    public static IncidentEventDto batch(Type type, Status status, IncidentPriority priority, List<String> tags,
+                                         List<UUID> incidentIds) {
+        IncidentEventDto event = new IncidentEventDto(type, null, null, status, priority, tags);
+        event.incidentIds = incidentIds;
+        event.affected = incidentIds.size();
+        return event;
+    }
+    
+
+    public Type getType() {
+        return type;
+    }
+    
+    public void setType(Type type) {
+        this.type = type;
+    }
+    
+    public UUID getIncidentId() {
+        return incidentId;
+    }
+    
+    public void setIncidentId(UUID incidentId) {
+        this.incidentId = incidentId;
+    }
+    
+    public UUID getCommentId() {
+        return commentId;
+    }
+    
+    public void setCommentId(UUID commentId) {
+        this.commentId = commentId;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+    
+    /**
+     * Status anterior quando o evento muda o status; permite a quem filtra por status saber que o incident saiu dele.
+     */
+    public Status getPreviousStatus() {
+        return previousStatus;
+    }
+    
+    public void setPreviousStatus(Status previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+    
+    public IncidentPriority getPriority() {
+        return priority;
+    }
+    
+    public void setPriority(IncidentPriority priority) {
+        this.priority = priority;
+    }
+    
+    public List<String> getTags() {
+        return tags;
+    }
+    
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+    
+    public List<UUID> getIncidentIds() {
+        return incidentIds;
+    }
+    
+    public void setIncidentIds(List<UUID> incidentIds) {
+        this.incidentIds = incidentIds;
+    }
+    
+    public Integer getAffected() {
+        return affected;
+    }
+    
+    public void setAffected(Integer affected) {
+        this.affected = affected;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
@@ -1,5 +1,5 @@
 package com.example.challenge.dto.response;
 
-public record LoginResponse(String accessToken, Long expiresIn) {
+public record LoginResponse(String accessToken, Long expiresIn, String refreshToken, Long refreshExpiresIn) {
     
 }
@@ -12,7 +12,7 @@ import java.util.UUID;
 public class Comment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @NotNull
@@ -32,6 +32,10 @@ public class Comment {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /** Chave da partição: acompanha o arquivamento do incident. */
+    @Column(nullable = false)
+    private boolean archived;
+
     public Comment() {}
 
     public Comment(UUID incidentId, String author, String message) {
@@ -80,6 +84,14 @@ public class Comment {
         this.createdAt = createdAt;
     }
 
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
     @Override
     public String toString() {
         return "Comment{" +
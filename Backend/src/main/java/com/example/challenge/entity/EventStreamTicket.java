@@ -0,0 +1,64 @@
+package com.example.challenge.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "event_stream_tickets")
+public class EventStreamTicket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "ticket_hash", nullable = false, unique = true, length = 64)
+    private String ticketHash;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public EventStreamTicket() {}
+
+    public EventStreamTicket(String ticketHash, UUID userId, LocalDateTime expiresAt) {
+        this.ticketHash = ticketHash;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getTicketHash() {
+        return ticketHash;
+    }
+
+    public void setTicketHash(String ticketHash) {
+        this.ticketHash = ticketHash;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.challenge.entity;
 
+import com.example.challenge.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,10 +15,11 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "incidents")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.INCIDENTS)
 public class Incident {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @NotBlank
@@ -42,6 +47,8 @@ public class Incident {
     private String responsibleEmail;
 
     @ElementCollection
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.INCIDENT_TAGS)
     @CollectionTable(name = "incident_tags", joinColumns = @JoinColumn(name = "incident_id"))
     @Column(name = "tag")
     private List<String> tags;
@@ -54,6 +61,10 @@ public class Incident {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /** Chave da partição: true quando o IncidentArchiveService moveu o registro para incidents_archive. */
+    @Column(nullable = false)
+    private boolean archived;
+
     public Incident() {}
 
     public Incident(String title, String description, IncidentPriority priority, Status status, String responsibleEmail) {
@@ -136,6 +147,14 @@ public class Incident {
         this.updatedAt = updatedAt;
     }
 
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
     @Override
     public String toString() {
         return "Incident{" +
@@ -4,5 +4,12 @@ public enum Status {
     OPEN,
     IN_PROGRESS,
     RESOLVED,
-    CANCELLED
-} 
\ No newline at end of file
+    CANCELLED;
+
+    /**
+     * Status não terminais; é o conjunto coberto pelos índices parciais da V11.
+     */
+    public boolean isActive() {
+        return this == OPEN || this == IN_PROGRESS;
+    }
+}
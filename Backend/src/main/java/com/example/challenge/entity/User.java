@@ -1,8 +1,11 @@
 package com.example.challenge.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.example.challenge.config.SecondLevelCacheConfig;
 import com.example.challenge.dto.request.LoginRequest;
 
 import java.util.Set;
@@ -10,6 +13,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USERS)
 public class User {
 
     @Id
@@ -21,6 +25,7 @@ public class User {
     private String username;
     private String password;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_ROLES)
     @ManyToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
     @JoinTable(
             name = "users_roles",
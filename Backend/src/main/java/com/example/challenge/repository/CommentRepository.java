@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.challenge.entity.Comment;
@@ -14,5 +17,20 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
     List<Comment> findByIncidentIdOrderByCreatedAtAsc(UUID incidentId);
     
     long countByIncidentId(UUID incidentId);
+
+    /**
+     * Acompanha o arquivamento: move para comments_archive os comentários dos incidents já arquivados.
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.archived = true WHERE c.archived = false AND c.incidentId IN "
+         + "(SELECT i.id FROM Incident i WHERE i.id IN :ids AND i.archived = true)")
+    int archiveByIncidentIds(@Param("ids") List<UUID> ids);
+
+    /**
+     * Acompanha a reabertura: devolve para comments_live os comentários dos incidents que saíram do arquivo.
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.archived = false WHERE c.archived = true AND c.incidentId IN :ids")
+    int restoreByIncidentIds(@Param("ids") List<UUID> ids);
 }
  
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.example.challenge.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.challenge.entity.EventStreamTicket;
+
+@Repository
+public interface EventStreamTicketRepository extends JpaRepository<EventStreamTicket, UUID> {
+
+    /**
+     * Consome o ticket se ainda for válido; 0 linhas significa inexistente, expirado ou já usado.
+     */
+    @Modifying
+    @Query("DELETE FROM EventStreamTicket t WHERE t.ticketHash = :ticketHash AND t.expiresAt > :now")
+    int consume(@Param("ticketHash") String ticketHash, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM EventStreamTicket t WHERE t.expiresAt < :cutoff")
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,29 @@
+package com.example.challenge.repository;
+
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+
+/**
+ * Implementação simples de IncidentCountProjection para cubos montados fora do Spring Data.
+ */
+public final class IncidentCount implements IncidentCountProjection {
+
+    private final Status status;
+    private final IncidentPriority priority;
+    private final long total;
+
+    public IncidentCount(Status status, IncidentPriority priority, long total) {
+        this.status = status;
+        this.priority = priority;
+        this.total = total;
+    }
+
+    @Override
+    public Status getStatus() { return status; }
+
+    @Override
+    public IncidentPriority getPriority() { return priority; }
+
+    @Override
+    public long getTotal() { return total; }
+}
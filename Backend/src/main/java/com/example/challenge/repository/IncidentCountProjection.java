@@ -0,0 +1,16 @@
+package com.example.challenge.repository;
+
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+
+/**
+ * Linha do agrupamento status x prioridade usado pelas estatísticas.
+ */
+public interface IncidentCountProjection {
+
+    Status getStatus();
+
+    IncidentPriority getPriority();
+
+    long getTotal();
+}
@@ -0,0 +1,20 @@
+package com.example.challenge.repository;
+
+import java.util.List;
+
+import com.example.challenge.entity.Incident;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Ordenação calculada sobre a raiz da consulta, como a relevância da busca textual.
+ * Fica fora da Specification para não vazar ORDER BY em COUNTs e agregações;
+ * só os construtores de página/slice a aplicam, quando nenhuma ordenação explícita foi pedida.
+ */
+@FunctionalInterface
+public interface IncidentOrdering {
+
+    List<Order> toOrders(Root<Incident> root, CriteriaBuilder cb);
+}
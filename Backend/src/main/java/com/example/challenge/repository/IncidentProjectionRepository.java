@@ -0,0 +1,55 @@
+package com.example.challenge.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.challenge.dto.response.IncidentResponseDto;
+import com.example.challenge.entity.Incident;
+import com.example.challenge.entity.Status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Operações por Specification que não passam por entidades gerenciadas: leitura de
+ * listagens direto para IncidentResponseDto (tags agregadas na mesma linha) e
+ * atualizações em massa com um único UPDATE.
+ */
+public interface IncidentProjectionRepository {
+
+    Optional<IncidentResponseDto> findResponseById(UUID id);
+
+    default Page<IncidentResponseDto> findResponsePage(Specification<Incident> spec, Pageable pageable) {
+        return findResponsePage(spec, null, pageable);
+    }
+
+    /**
+     * @param ranking Ordenação usada quando o Pageable não traz Sort (ex.: relevância da busca), ou null
+     */
+    Page<IncidentResponseDto> findResponsePage(Specification<Incident> spec, IncidentOrdering ranking, Pageable pageable);
+
+    default Slice<IncidentResponseDto> findResponseSlice(Specification<Incident> spec, Pageable pageable) {
+        return findResponseSlice(spec, null, pageable);
+    }
+
+    Slice<IncidentResponseDto> findResponseSlice(Specification<Incident> spec, IncidentOrdering ranking, Pageable pageable);
+
+    /**
+     * Cursor do lado do servidor: deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    Stream<IncidentResponseDto> streamResponses(Specification<Incident> spec, Sort sort, int fetchSize);
+
+    /**
+     * Ids, status e prioridade de no máximo limit incidents que a Specification alcança, com FOR UPDATE;
+     * deve rodar na mesma transação do UPDATE que os move.
+     */
+    List<IncidentStatusRow> lockForStatusUpdate(Specification<Incident> spec, int limit);
+
+    int updateStatus(Specification<Incident> spec, Status status, LocalDateTime updatedAt);
+}
@@ -0,0 +1,204 @@
+package com.example.challenge.repository;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.example.challenge.dto.response.IncidentResponseDto;
+import com.example.challenge.entity.Incident;
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class IncidentProjectionRepositoryImpl implements IncidentProjectionRepository {
+
+    /** Separador usado pela função tags_agg (ver SearchFunctionsContributor). */
+    static final String TAG_SEPARATOR = "\u001F";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<IncidentResponseDto> findResponseById(UUID id) {
+        Specification<Incident> byId = (root, query, cb) -> cb.equal(root.get("id"), id);
+        return createQuery(byId, Sort.unsorted(), null).getResultStream()
+            .map(IncidentProjectionRepositoryImpl::toResponseDto)
+            .findFirst();
+    }
+
+    @Override
+    public Page<IncidentResponseDto> findResponsePage(Specification<Incident> spec, IncidentOrdering ranking,
+                                                      Pageable pageable) {
+        List<IncidentResponseDto> content = fetch(spec, ranking, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<IncidentResponseDto> findResponseSlice(Specification<Incident> spec, IncidentOrdering ranking,
+                                                        Pageable pageable) {
+        List<IncidentResponseDto> content = fetch(spec, ranking, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public Stream<IncidentResponseDto> streamResponses(Specification<Incident> spec, Sort sort, int fetchSize) {
+        TypedQuery<Tuple> typedQuery = createQuery(spec, sort, null);
+        typedQuery.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        typedQuery.setHint(HibernateHints.HINT_READ_ONLY, true);
+
+        return typedQuery.getResultStream()
+            .map(IncidentProjectionRepositoryImpl::toResponseDto);
+    }
+
+    @Override
+    public List<IncidentStatusRow> lockForStatusUpdate(Specification<Incident> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Incident> root = query.from(Incident.class);
+
+        query.multiselect(root.get("id"), root.get("status"), root.get("priority"));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query)
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+            .setMaxResults(limit)
+            .getResultStream()
+            .map(row -> new IncidentStatusRow(
+                row.get(0, UUID.class), row.get(1, Status.class), row.get(2, IncidentPriority.class)))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public int updateStatus(Specification<Incident> spec, Status status, LocalDateTime updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Incident> update = cb.createCriteriaUpdate(Incident.class);
+        Root<Incident> root = update.from(Incident.class);
+
+        update.set(root.<Status>get("status"), status);
+        update.set(root.<LocalDateTime>get("updatedAt"), updatedAt);
+        if (status.isActive()) {
+            // Reabrir tira o incident do arquivo (ver IncidentService.restoreIfReopened)
+            update.set(root.<Boolean>get("archived"), false);
+        }
+
+        // Mesmo recurso do JpaSpecificationExecutor.delete: a Specification recebe uma query descartável
+        Predicate predicate = spec.toPredicate(root, cb.createQuery(Incident.class), cb);
+        if (predicate != null) {
+            update.where(predicate);
+        }
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private List<IncidentResponseDto> fetch(Specification<Incident> spec, IncidentOrdering ranking,
+                                            Pageable pageable, int limit) {
+        TypedQuery<Tuple> typedQuery = createQuery(spec, pageable.getSort(), ranking);
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(limit);
+
+        return typedQuery.getResultStream()
+            .map(IncidentProjectionRepositoryImpl::toResponseDto)
+            .collect(Collectors.toList());
+    }
+
+    private TypedQuery<Tuple> createQuery(Specification<Incident> spec, Sort sort, IncidentOrdering ranking) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Incident> root = query.from(Incident.class);
+        Join<Incident, String> tag = root.join("tags", JoinType.LEFT);
+
+        query.multiselect(
+            root.get("id"),
+            root.get("title"),
+            root.get("description"),
+            root.get("priority"),
+            root.get("status"),
+            root.get("responsibleEmail"),
+            cb.function("tags_agg", String.class, tag),
+            root.get("createdAt"),
+            root.get("updatedAt")
+        );
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        // Agrupa pela PK inteira da tabela particionada (V12) para o PostgreSQL aceitar as demais colunas
+        query.groupBy(root.get("id"), root.get("archived"), root.get("createdAt"));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        } else if (ranking != null) {
+            query.orderBy(ranking.toOrders(root, cb));
+        }
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Incident> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Incident> root = query.from(Incident.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static IncidentResponseDto toResponseDto(Tuple row) {
+        String packedTags = row.get(6, String.class);
+        // Mesmo JSON do IncidentMapper: incident sem tags traz lista vazia, não null
+        List<String> tags = packedTags == null
+            ? List.of()
+            : Arrays.asList(packedTags.split(TAG_SEPARATOR));
+
+        return new IncidentResponseDto(
+            row.get(0, UUID.class),
+            row.get(1, String.class),
+            row.get(2, String.class),
+            row.get(3, IncidentPriority.class),
+            row.get(4, Status.class),
+            row.get(5, String.class),
+            tags,
+            row.get(7, LocalDateTime.class),
+            row.get(8, LocalDateTime.class)
+        );
+    }
+}
@@ -1,49 +1,72 @@
 package com.example.challenge.repository;
 
-import java.util.UUID;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import jakarta.persistence.QueryHint;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.challenge.entity.Incident;
-import com.example.challenge.entity.IncidentPriority;
-import com.example.challenge.entity.Status;
 
 @Repository
-public interface IncidentRepository extends JpaRepository<Incident, UUID> {
-    
-    List<Incident> findByStatus(Status status);
-    List<Incident> findByPriority(IncidentPriority priority);
-    List<Incident> findByTitleContainingIgnoreCase(String title);
-    List<Incident> findByDescriptionContainingIgnoreCase(String description);
-    
-    Page<Incident> findByStatus(Status status, Pageable pageable);
-    Page<Incident> findByPriority(IncidentPriority priority, Pageable pageable);
-    
-    Page<Incident> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
-        String titleSearch, String descriptionSearch, Pageable pageable);
-    
-    Page<Incident> findByStatusAndPriorityAndTitleContainingIgnoreCase(
-        Status status, IncidentPriority priority, String title, Pageable pageable);
-    
-    Page<Incident> findByStatusAndPriorityAndDescriptionContainingIgnoreCase(
-        Status status, IncidentPriority priority, String description, Pageable pageable);
-    
-    Page<Incident> findByStatusAndTitleContainingIgnoreCase(
-        Status status, String title, Pageable pageable);
-        
-    Page<Incident> findByStatusAndDescriptionContainingIgnoreCase(
-        Status status, String description, Pageable pageable);
-        
-    Page<Incident> findByPriorityAndTitleContainingIgnoreCase(
-        IncidentPriority priority, String title, Pageable pageable);
-        
-    Page<Incident> findByPriorityAndDescriptionContainingIgnoreCase(
-        IncidentPriority priority, String description, Pageable pageable);
-        
-    Page<Incident> findByTitleContainingIgnoreCase(String title, Pageable pageable);
-    Page<Incident> findByDescriptionContainingIgnoreCase(String description, Pageable pageable);
-}
\ No newline at end of file
+public interface IncidentRepository extends JpaRepository<Incident, UUID>, JpaSpecificationExecutor<Incident>,
+                                            IncidentProjectionRepository {
+
+    /** Literais JPQL dos status encerrados; casam com o índice parcial idx_incidents_archivable. */
+    String TERMINAL_STATUSES = "com.example.challenge.entity.Status.RESOLVED, com.example.challenge.entity.Status.CANCELLED";
+
+    @Query("SELECT i.status AS status, i.priority AS priority, COUNT(i) AS total "
+         + "FROM Incident i GROUP BY i.status, i.priority")
+    List<IncidentCountProjection> countByStatusAndPriority();
+
+    /**
+     * União das tags de um lote de incidents, para os eventos em massa.
+     */
+    @Query("SELECT DISTINCT t FROM Incident i JOIN i.tags t WHERE i.id IN :ids")
+    List<String> findDistinctTagsByIdIn(@Param("ids") List<UUID> ids);
+
+    @Query("SELECT i.updatedAt FROM Incident i WHERE i.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    /**
+     * Incidents encerrados ainda em incidents_live criados antes do corte, mais antigos primeiro.
+     */
+    @Query("SELECT i.id FROM Incident i WHERE i.archived = false "
+         + "AND i.status IN (" + TERMINAL_STATUSES + ") AND i.createdAt < :cutoff ORDER BY i.createdAt")
+    List<UUID> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    /**
+     * Move para incidents_archive; o status é conferido de novo para não arquivar um incident reaberto.
+     */
+    @Modifying
+    @Query("UPDATE Incident i SET i.archived = true WHERE i.id IN :ids AND i.archived = false "
+         + "AND i.status IN (" + TERMINAL_STATUSES + ")")
+    int archiveByIds(@Param("ids") List<UUID> ids);
+
+    /**
+     * Tags de incidents excluídos fora do IncidentService; limpas pelo job de arquivamento.
+     * O query space restringe a invalidação do cache de segundo nível à região das tags.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "incident_tags"))
+    @Query(value = "DELETE FROM incident_tags t WHERE NOT EXISTS "
+                 + "(SELECT 1 FROM incidents i WHERE i.id = t.incident_id)", nativeQuery = true)
+    int deleteOrphanTags();
+
+    /**
+     * A V7 só instala pg_trgm (e os índices de trigrama) quando o servidor e o papel da aplicação permitem.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')", nativeQuery = true)
+    boolean isTrigramExtensionInstalled();
+}
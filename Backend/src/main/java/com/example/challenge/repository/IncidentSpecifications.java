@@ -0,0 +1,206 @@
+package com.example.challenge.repository;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.challenge.entity.Incident;
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Predicados componíveis para a listagem de incidents.
+ * Cada método retorna null quando o filtro não foi informado, o que faz o
+ * Specification.where/and simplesmente ignorar aquele critério.
+ */
+public final class IncidentSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private IncidentSpecifications() {}
+
+    public static Specification<Incident> hasStatus(Status status) {
+        if (status == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Restringe aos status ativos. Os valores vão como literais no SQL (cb.literal), e não como
+     * parâmetros, para o planner provar o predicado dos índices parciais da V11 mesmo em planos genéricos.
+     */
+    public static Specification<Incident> isActive() {
+        return (root, query, cb) -> root.get("status").in(
+            Arrays.stream(Status.values())
+                .filter(Status::isActive)
+                .map(cb::literal)
+                .toArray(Expression[]::new));
+    }
+
+    /**
+     * Restringe a incidents_live; o PostgreSQL descarta a partição de arquivo já no planejamento.
+     */
+    public static Specification<Incident> isNotArchived() {
+        return (root, query, cb) -> cb.isFalse(root.get("archived"));
+    }
+
+    public static Specification<Incident> hasStatusOtherThan(Status status) {
+        if (status == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.notEqual(root.get("status"), status);
+    }
+
+    public static Specification<Incident> hasIdIn(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Incident> hasPriority(IncidentPriority priority) {
+        if (priority == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Incident> matchesText(String searchTerm) {
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(searchTerm.trim()) + "%";
+        return (root, query, cb) -> containsIgnoreCase(root, (HibernateCriteriaBuilder) cb, pattern);
+    }
+
+    /**
+     * Busca por fragmentos (hostnames, códigos de erro) apoiada nos índices de trigrama:
+     * ILIKE em título/descrição ou similaridade aproximada com o título.
+     */
+    public static Specification<Incident> matchesTrigram(String searchTerm) {
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return null;
+        }
+        String terms = searchTerm.trim();
+        String pattern = "%" + escapeLike(terms) + "%";
+        return (root, query, cb) -> cb.or(
+            containsIgnoreCase(root, (HibernateCriteriaBuilder) cb, pattern),
+            cb.isTrue(cb.function("trgm_match", Boolean.class, root.get("title"), cb.literal(terms)))
+        );
+    }
+
+    /**
+     * Maior similaridade de trigrama primeiro; companheira de matchesTrigram para sort=relevance.
+     */
+    public static IncidentOrdering rankedByTrigram(String searchTerm) {
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return null;
+        }
+        String terms = searchTerm.trim();
+        return (root, cb) -> List.of(
+            cb.desc(cb.function("trgm_similarity", Double.class,
+                root.get("title"), root.get("description"), cb.literal(terms))),
+            cb.desc(root.get("createdAt"))
+        );
+    }
+
+    /**
+     * Busca textual pelo índice GIN de full-text.
+     */
+    public static Specification<Incident> matchesFullText(String searchTerm) {
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return null;
+        }
+        String terms = searchTerm.trim();
+        return (root, query, cb) -> cb.isTrue(cb.function("fts_match", Boolean.class,
+            root.get("title"), root.get("description"), cb.literal(terms)));
+    }
+
+    /**
+     * Maior relevância (ts_rank) primeiro; companheira de matchesFullText para sort=relevance.
+     */
+    public static IncidentOrdering rankedByFullText(String searchTerm) {
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return null;
+        }
+        String terms = searchTerm.trim();
+        return (root, cb) -> List.of(
+            cb.desc(cb.function("fts_rank", Double.class,
+                root.get("title"), root.get("description"), cb.literal(terms))),
+            cb.desc(root.get("createdAt"))
+        );
+    }
+
+    public static Specification<Incident> hasAnyTag(List<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<UUID> tagged = query.subquery(UUID.class);
+            Root<Incident> inner = tagged.from(Incident.class);
+            Join<Incident, String> tag = inner.join("tags");
+            tagged.select(inner.get("id")).where(tag.in(tags));
+            return root.get("id").in(tagged);
+        };
+    }
+
+    public static Specification<Incident> hasResponsibleEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        String normalized = email.trim().toLowerCase();
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("responsibleEmail")), normalized);
+    }
+
+    public static Specification<Incident> createdBetween(LocalDateTime from, LocalDateTime to) {
+        return between("createdAt", from, to);
+    }
+
+    public static Specification<Incident> updatedBetween(LocalDateTime from, LocalDateTime to) {
+        return between("updatedAt", from, to);
+    }
+
+    private static Specification<Incident> between(String attribute, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThan(root.get(attribute), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get(attribute), from);
+            }
+            return cb.and(
+                cb.greaterThanOrEqualTo(root.get(attribute), from),
+                cb.lessThan(root.get(attribute), to)
+            );
+        };
+    }
+
+    private static Predicate containsIgnoreCase(Root<Incident> root, HibernateCriteriaBuilder cb, String pattern) {
+        return cb.or(
+            cb.ilike(root.get("title"), pattern, LIKE_ESCAPE),
+            cb.ilike(root.get("description"), pattern, LIKE_ESCAPE)
+        );
+    }
+
+    private static String escapeLike(String value) {
+        return value
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.challenge.repository;
+
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+
+import java.util.UUID;
+
+/**
+ * Incident alvo de uma transição em massa, lido (e travado) antes do UPDATE.
+ */
+public record IncidentStatusRow(UUID id, Status status, IncidentPriority priority) {
+    
+}
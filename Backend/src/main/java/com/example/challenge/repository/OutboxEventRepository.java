@@ -0,0 +1,41 @@
+package com.example.challenge.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.challenge.entity.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Reivindica o próximo lote pendente, em ordem de inserção. SKIP LOCKED deixa cada instância com
+     * linhas diferentes, e uma linha de transação ainda aberta simplesmente aparece num ciclo seguinte.
+     */
+    @Query(value = "SELECT id FROM outbox_events WHERE processed_at IS NULL ORDER BY id LIMIT :limit "
+                 + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> claimPending(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.processedAt = :processedAt WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") List<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * NOTIFY transacional: só chega aos ouvintes se a transação que marcou as linhas confirmar.
+     */
+    @Query(value = "SELECT count(*) FROM pg_notify(:channel, :payload)", nativeQuery = true)
+    long publish(@Param("channel") String channel, @Param("payload") String payload);
+
+    /**
+     * Apaga só eventos já publicados; pendentes ficam até o relay entregá-los, por mais antigos que sejam.
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -3,12 +3,17 @@ package com.example.challenge.repository;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.example.challenge.entity.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface UsersRepository extends JpaRepository<User, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
 }
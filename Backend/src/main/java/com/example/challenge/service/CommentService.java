@@ -2,6 +2,7 @@ package com.example.challenge.service;
 
 import com.example.challenge.dto.request.CommentCreateDto;
 import com.example.challenge.dto.response.CommentResponseDto;
+import com.example.challenge.dto.response.IncidentEventDto;
 import com.example.challenge.entity.Comment;
 import com.example.challenge.entity.Incident;
 import com.example.challenge.repository.CommentRepository;
@@ -13,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -25,14 +27,20 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final IncidentRepository incidentRepository;
     private final CommentMapper commentMapper;
+    private final IncidentResponseCache incidentResponseCache;
+    private final IncidentOutbox outbox;
     
     @Autowired
     public CommentService(CommentRepository commentRepository,
                          IncidentRepository incidentRepository,
-                         CommentMapper commentMapper) {
+                         CommentMapper commentMapper,
+                         IncidentResponseCache incidentResponseCache,
+                         IncidentOutbox outbox) {
         this.commentRepository = commentRepository;
         this.incidentRepository = incidentRepository;
         this.commentMapper = commentMapper;
+        this.incidentResponseCache = incidentResponseCache;
+        this.outbox = outbox;
     }
     
 
@@ -43,6 +51,8 @@ public class CommentService {
         
 
         Comment comment = commentMapper.toEntity(createDto, incidentId);
+        // Mesma partição do incident (V12): comentário de incident arquivado vai para comments_archive
+        comment.setArchived(incident.isArchived());
         
 
         Comment savedComment = commentRepository.save(comment);
@@ -50,6 +60,9 @@ public class CommentService {
 
         AuditUtils.touchUpdate(incident);
         incidentRepository.save(incident);
+        incidentResponseCache.evict(incidentId);
+        outbox.record(IncidentService.toEvent(
+            IncidentEventDto.Type.COMMENT_CREATED, incident, savedComment.getId()));
         
 
         return commentMapper.toResponseDto(savedComment);
@@ -71,6 +84,16 @@ public class CommentService {
     }
     
 
+    /**
+     * Toda escrita de comentário toca o updatedAt do incident, que serve de versão da lista.
+     */
+    @Transactional(readOnly = true)
+    public LocalDateTime findCommentsLastModified(UUID incidentId) {
+        return incidentRepository.findUpdatedAtById(incidentId)
+            .orElseThrow(() -> new NotFoundException("Incident", incidentId));
+    }
+    
+
     @Transactional(readOnly = true)
     public CommentResponseDto findById(UUID id) {
         Comment comment = commentRepository.findById(id)
@@ -94,6 +117,9 @@ public class CommentService {
         if (incident != null) {
             AuditUtils.touchUpdate(incident);
             incidentRepository.save(incident);
+            incidentResponseCache.evict(incident.getId());
+            outbox.record(IncidentService.toEvent(
+                IncidentEventDto.Type.COMMENT_UPDATED, incident, savedComment.getId()));
         }
         
         return commentMapper.toResponseDto(savedComment);
@@ -113,6 +139,8 @@ public class CommentService {
         if (incident != null) {
             AuditUtils.touchUpdate(incident);
             incidentRepository.save(incident);
+            incidentResponseCache.evict(incident.getId());
+            outbox.record(IncidentService.toEvent(IncidentEventDto.Type.COMMENT_DELETED, incident, id));
         }
     }
     
@@ -0,0 +1,64 @@
+package com.example.challenge.service;
+
+import com.example.challenge.entity.EventStreamTicket;
+import com.example.challenge.repository.EventStreamTicketRepository;
+import com.example.challenge.shared.util.OpaqueTokenUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Tickets curtos e de uso único para o stream SSE. O EventSource do navegador não envia Authorization,
+ * então o cliente troca o access token por um ticket e o passa em ?ticket= ao abrir a conexão.
+ * Ficam no banco para valerem em qualquer instância; o consumo é um DELETE condicional.
+ */
+@Service
+@Transactional
+public class EventStreamTicketService {
+
+    private final EventStreamTicketRepository ticketRepository;
+    private final Duration ticketTtl;
+
+    @Autowired
+    public EventStreamTicketService(EventStreamTicketRepository ticketRepository,
+                                    @Value("${incidents.events.ticket-ttl:30s}") Duration ticketTtl) {
+        this.ticketRepository = ticketRepository;
+        this.ticketTtl = ticketTtl;
+    }
+
+
+    public Duration getTicketTtl() {
+        return ticketTtl;
+    }
+
+
+    public String issue(UUID userId) {
+        String ticket = OpaqueTokenUtils.generate();
+        ticketRepository.save(new EventStreamTicket(
+            OpaqueTokenUtils.hash(ticket), userId, LocalDateTime.now().plus(ticketTtl)));
+        return ticket;
+    }
+
+
+    /**
+     * true só na primeira apresentação de um ticket dentro da validade.
+     */
+    public boolean consume(String ticket) {
+        if (ticket == null || ticket.isBlank()) {
+            return false;
+        }
+        return ticketRepository.consume(OpaqueTokenUtils.hash(ticket), LocalDateTime.now()) == 1;
+    }
+
+
+    @Scheduled(fixedDelayString = "${incidents.events.ticket-cleanup-interval-ms:600000}")
+    public void deleteExpired() {
+        ticketRepository.deleteExpired(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.challenge.service;
+
+import com.example.challenge.entity.Incident;
+import com.example.challenge.repository.CommentRepository;
+import com.example.challenge.repository.IncidentRepository;
+import com.example.challenge.repository.IncidentSpecifications;
+import com.example.challenge.shared.util.FilterUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Arquivamento de incidents encerrados (RESOLVED/CANCELLED) mais antigos que incidents.archive.after.
+ * Marcar archived move o registro e seus comentários para as partições de arquivo (V12);
+ * as consultas só voltam a ler o arquivo quando o intervalo de createdAt pedido alcança antes do corte.
+ * Como a V12 tirou a FK de incident_tags, cada execução também apaga as tags que ficaram sem incident.
+ */
+@Service
+public class IncidentArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(IncidentArchiveService.class);
+
+    private final IncidentRepository incidentRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration archiveAfter;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    @Autowired
+    public IncidentArchiveService(IncidentRepository incidentRepository,
+                                  CommentRepository commentRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${incidents.archive.after:365d}") Duration archiveAfter,
+                                  @Value("${incidents.archive.batch-size:500}") int batchSize,
+                                  @Value("${incidents.archive.max-batches-per-run:200}") int maxBatchesPerRun) {
+        this.incidentRepository = incidentRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.archiveAfter = archiveAfter;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+
+    /**
+     * Incidents criados antes deste instante podem estar no arquivo; depois dele, nunca.
+     */
+    public LocalDateTime cutoff() {
+        return LocalDateTime.now().minus(archiveAfter);
+    }
+
+
+    /**
+     * Restrição de partição para uma consulta de listagem: null (lê tudo) quando o intervalo de
+     * createdAt alcança antes do corte, senão somente incidents_live.
+     */
+    public Specification<Incident> scope(FilterUtils.IncidentFilters filters) {
+        return reachesArchive(filters) ? null : IncidentSpecifications.isNotArchived();
+    }
+
+
+    boolean reachesArchive(FilterUtils.IncidentFilters filters) {
+        if (!filters.hasCreatedRange()) {
+            return false;
+        }
+        return filters.getCreatedFrom() == null || filters.getCreatedFrom().isBefore(cutoff());
+    }
+
+
+    @Scheduled(cron = "${incidents.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        LocalDateTime cutoff = cutoff();
+        long total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer archived = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            if (archived == null) {
+                break;
+            }
+            total += archived;
+            if (archived < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Archived {} incidents created before {}", total, cutoff);
+        }
+
+        Integer orphanTags = transactionTemplate.execute(status -> incidentRepository.deleteOrphanTags());
+        if (orphanTags != null && orphanTags > 0) {
+            log.info("Removed {} tags of deleted incidents", orphanTags);
+        }
+    }
+
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<UUID> ids = incidentRepository.findArchivableIds(cutoff, Limit.of(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int archived = incidentRepository.archiveByIds(ids);
+        commentRepository.archiveByIncidentIds(ids);
+        return archived;
+    }
+}
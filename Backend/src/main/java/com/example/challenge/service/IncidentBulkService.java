@@ -0,0 +1,188 @@
+package com.example.challenge.service;
+
+import com.example.challenge.dto.request.IncidentCreateDto;
+import com.example.challenge.dto.response.BulkCreateResponseDto;
+import com.example.challenge.dto.response.BulkItemResultDto;
+import com.example.challenge.shared.exception.ValidationException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Ingestão em lote de incidents: valida item a item e persiste os válidos em
+ * blocos de chunk-size, um por transação, para aproveitar o batching JDBC.
+ */
+@Service
+public class IncidentBulkService {
+
+    private final IncidentService incidentService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxItems;
+
+    @Autowired
+    public IncidentBulkService(IncidentService incidentService,
+                               Validator validator,
+                               ObjectMapper objectMapper,
+                               @Value("${incidents.bulk.chunk-size:500}") int chunkSize,
+                               @Value("${incidents.bulk.max-items:10000}") int maxItems) {
+        this.incidentService = incidentService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+
+    /**
+     * Lê o array JSON item a item e para no item max-items + 1, sem desserializar o restante do corpo.
+     * Nada é persistido antes do array inteiro ser lido: acima do limite ou com JSON malformado a requisição
+     * é recusada; um item que não mapeia para IncidentCreateDto falha sozinho.
+     */
+    public BulkCreateResponseDto createAllFromJsonArray(InputStream body) throws IOException {
+        List<JsonNode> items = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ValidationException("Bulk JSON requests must be an array of incidents");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new ValidationException("Malformed JSON: unterminated array");
+                }
+                checkLimit(items.size() + 1);
+                items.add(parser.readValueAsTree());
+            }
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Malformed JSON: " + e.getOriginalMessage(), e);
+        }
+
+        Batch batch = new Batch();
+        for (int index = 0; index < items.size(); index++) {
+            try {
+                batch.accept(index, objectMapper.treeToValue(items.get(index), IncidentCreateDto.class));
+            } catch (JsonProcessingException e) {
+                batch.reject(index, Map.of("body", "Malformed JSON: " + e.getOriginalMessage()));
+            }
+        }
+        return batch.finish();
+    }
+
+
+    public BulkCreateResponseDto createAllFromNdjson(BufferedReader reader) throws IOException {
+        Batch batch = new Batch();
+        int index = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            checkLimit(index + 1);
+
+            try {
+                batch.accept(index, objectMapper.readValue(line, IncidentCreateDto.class));
+            } catch (JsonProcessingException e) {
+                batch.reject(index, Map.of("body", "Malformed JSON: " + e.getOriginalMessage()));
+            }
+            index++;
+        }
+        return batch.finish();
+    }
+
+
+    private void checkLimit(int count) {
+        if (count > maxItems) {
+            throw new ValidationException("items", String.valueOf(count),
+                "Bulk requests accept at most " + maxItems + " incidents");
+        }
+    }
+
+    private Map<String, String> validate(IncidentCreateDto createDto) {
+        if (createDto == null) {
+            return Map.of("body", "Incident is required");
+        }
+
+        Set<ConstraintViolation<IncidentCreateDto>> violations = validator.validate(createDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (ConstraintViolation<IncidentCreateDto> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+
+    private class Batch {
+        private final List<BulkItemResultDto> results = new ArrayList<>();
+        private final List<Integer> pendingIndexes = new ArrayList<>();
+        private final List<IncidentCreateDto> pendingItems = new ArrayList<>();
+
+        void accept(int index, IncidentCreateDto createDto) {
+            Map<String, String> errors = validate(createDto);
+            if (errors != null) {
+                reject(index, errors);
+                return;
+            }
+
+            pendingIndexes.add(index);
+            pendingItems.add(createDto);
+            if (pendingItems.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(int index, Map<String, String> errors) {
+            results.add(BulkItemResultDto.failed(index, errors));
+        }
+
+        BulkCreateResponseDto finish() {
+            flush();
+            results.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+            return new BulkCreateResponseDto(results);
+        }
+
+        private void flush() {
+            if (pendingItems.isEmpty()) {
+                return;
+            }
+
+            try {
+                List<UUID> ids = incidentService.createIncidents(pendingItems);
+                for (int i = 0; i < ids.size(); i++) {
+                    results.add(BulkItemResultDto.created(pendingIndexes.get(i), ids.get(i)));
+                }
+            } catch (DataAccessException e) {
+                Map<String, String> errors = Map.of("persistence", "Chunk could not be stored: "
+                    + e.getMostSpecificCause().getMessage());
+                for (Integer index : pendingIndexes) {
+                    reject(index, errors);
+                }
+            }
+
+            pendingIndexes.clear();
+            pendingItems.clear();
+        }
+    }
+}
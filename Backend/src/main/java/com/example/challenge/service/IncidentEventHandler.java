@@ -0,0 +1,13 @@
+package com.example.challenge.service;
+
+import com.example.challenge.dto.response.IncidentEventDto;
+
+/**
+ * Consumidor dos eventos difundidos pelo IncidentEventListener. Todas as instâncias recebem
+ * os eventos, então um handler deve agir só sobre estado local (ex.: assinantes SSE do nó).
+ * A entrega é sem garantia: uma exceção é registrada e o evento não é reentregue.
+ */
+public interface IncidentEventHandler {
+
+    void handle(IncidentEventDto event);
+}
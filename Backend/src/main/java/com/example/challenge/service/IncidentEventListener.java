@@ -0,0 +1,155 @@
+package com.example.challenge.service;
+
+import com.example.challenge.dto.response.IncidentEventDto;
+import com.example.challenge.entity.OutboxEvent;
+import com.example.challenge.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Difusão dos eventos publicados pelo IncidentOutboxRelay para os IncidentEventHandler desta instância.
+ * Cada instância escuta o canal (LISTEN) numa conexão própria, fora do pool, e carrega os payloads pelos ids.
+ * <p>
+ * A difusão é sem garantia: notificações de quando a instância estava fora do ar ou reconectando se perdem,
+ * e quem conectar no SSE recarrega o estado pela API. A garantia de entrega é do relay, não daqui.
+ */
+@Component
+public class IncidentEventListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(IncidentEventListener.class);
+
+    private final JdbcConnectionDetails connectionDetails;
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<IncidentEventHandler> handlers;
+    private final ObjectMapper objectMapper;
+    private final int pollTimeoutMs;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    @Autowired
+    public IncidentEventListener(JdbcConnectionDetails connectionDetails,
+                                 OutboxEventRepository outboxEventRepository,
+                                 List<IncidentEventHandler> handlers,
+                                 ObjectMapper objectMapper,
+                                 @Value("${incidents.events.listen-timeout-ms:1000}") int pollTimeoutMs,
+                                 @Value("${incidents.events.reconnect-delay:5s}") Duration reconnectDelay) {
+        this.connectionDetails = connectionDetails;
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.objectMapper = objectMapper;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        thread = new Thread(this::listen, "incident-events-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+
+    /**
+     * Entrega aos handlers os eventos dos ids, em ordem de id; ids já purgados são ignorados.
+     * Uma falha de handler é registrada e não interrompe a entrega dos demais eventos.
+     */
+    public void deliver(List<Long> ids) {
+        List<OutboxEvent> outboxEvents = new ArrayList<>(outboxEventRepository.findAllById(ids));
+        outboxEvents.sort(Comparator.comparing(OutboxEvent::getId));
+
+        for (OutboxEvent outboxEvent : outboxEvents) {
+            IncidentEventDto event;
+            try {
+                event = objectMapper.readValue(outboxEvent.getPayload(), IncidentEventDto.class);
+            } catch (JsonProcessingException e) {
+                log.error("Skipping unreadable outbox event {}: {}", outboxEvent.getId(), e.getOriginalMessage());
+                continue;
+            }
+
+            for (IncidentEventHandler handler : handlers) {
+                try {
+                    handler.handle(event);
+                } catch (RuntimeException e) {
+                    log.warn("Event handler failed for outbox event {} ({}): {}",
+                             outboxEvent.getId(), outboxEvent.getEventType(), e.getMessage());
+                }
+            }
+        }
+    }
+
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(connectionDetails.getJdbcUrl(),
+                    connectionDetails.getUsername(), connectionDetails.getPassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + IncidentOutboxRelay.CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null && notifications.length > 0) {
+                        deliver(parseIds(notifications));
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Incident event listener disconnected, retrying in {}: {}", reconnectDelay, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static List<Long> parseIds(PGNotification[] notifications) {
+        List<Long> ids = new ArrayList<>();
+        for (PGNotification notification : notifications) {
+            for (String id : notification.getParameter().split(",")) {
+                ids.add(Long.parseLong(id));
+            }
+        }
+        return ids;
+    }
+}
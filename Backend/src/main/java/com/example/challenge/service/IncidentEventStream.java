@@ -0,0 +1,205 @@
+package com.example.challenge.service;
+
+import com.example.challenge.dto.response.IncidentEventDto;
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Difusão de eventos de incidents e comentários via SSE.
+ * Cada assinante tem filtro próprio e um buffer limitado; quem deixa o buffer encher
+ * é desconectado (o EventSource do cliente reconecta e recarrega o estado).
+ * O envio roda em um pool pequeno, nunca na thread que escuta o canal de eventos.
+ */
+@Component
+public class IncidentEventStream implements IncidentEventHandler {
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Executor sender;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+
+    @Autowired
+    public IncidentEventStream(@Value("${incidents.events.buffer-size:256}") int bufferSize,
+                               @Value("${incidents.events.max-subscribers:5000}") int maxSubscribers,
+                               @Value("${incidents.events.timeout-ms:1800000}") long timeoutMs,
+                               @Value("${incidents.events.sender-threads:4}") int senderThreads,
+                               Environment environment) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+
+        // Com virtual threads, um cliente lento bloqueia só a própria virtual thread
+        if (Threading.VIRTUAL.isActive(environment)) {
+            this.sender = new VirtualThreadTaskExecutor("incident-events-");
+        } else {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("incident-events-");
+            threadFactory.setDaemon(true);
+            this.sender = Executors.newFixedThreadPool(senderThreads, threadFactory);
+        }
+    }
+
+
+    /**
+     * Registra um assinante; retorna null quando o limite de conexões foi atingido.
+     */
+    public SseEmitter subscribe(Filter filter) {
+        if (subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMs), filter);
+        subscriber.emitter.onCompletion(subscriber::close);
+        subscriber.emitter.onTimeout(subscriber::close);
+        subscriber.emitter.onError(error -> subscriber.close());
+        subscribers.add(subscriber);
+
+        subscriber.offer(SseEmitter.event().comment("connected"));
+        return subscriber.emitter;
+    }
+
+
+    /**
+     * Chamado pelo IncidentEventListener, só com eventos de transações já confirmadas.
+     */
+    @Override
+    public void handle(IncidentEventDto event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.filter.matches(event)) {
+                subscriber.offer(SseEmitter.event().name(event.getType().name()).data(event));
+            }
+        }
+    }
+
+
+    @Scheduled(fixedDelayString = "${incidents.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event().comment("keepalive"));
+        }
+    }
+
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Filtro por assinante; conjuntos vazios aceitam qualquer valor.
+     * O status casa pelo valor novo ou pelo anterior, para quem acompanha OPEN saber que um incident saiu de OPEN.
+     * Eventos em massa levam a prioridade do lote e a união das tags, então passam pelos mesmos critérios.
+     */
+    public static class Filter {
+        private final Set<Status> statuses;
+        private final Set<IncidentPriority> priorities;
+        private final Set<String> tags;
+
+        public Filter(Collection<Status> statuses, Collection<IncidentPriority> priorities, Collection<String> tags) {
+            this.statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+            this.priorities = priorities == null ? Set.of() : Set.copyOf(priorities);
+            this.tags = tags == null ? Set.of() : Set.copyOf(tags);
+        }
+
+        public boolean matches(IncidentEventDto event) {
+            if (!statuses.isEmpty() && event.getStatus() != null && !statuses.contains(event.getStatus())
+                    && (event.getPreviousStatus() == null || !statuses.contains(event.getPreviousStatus()))) {
+                return false;
+            }
+            if (!priorities.isEmpty() && !priorities.contains(event.getPriority())) {
+                return false;
+            }
+            return tags.isEmpty()
+                || (event.getTags() != null && event.getTags().stream().anyMatch(tags::contains));
+        }
+    }
+
+
+    private class Subscriber {
+        private final SseEmitter emitter;
+        private final Filter filter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, Filter filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder next;
+                while (!closed && (next = buffer.poll()) != null) {
+                    emitter.send(next);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                draining.set(false);
+                if (!closed && !buffer.isEmpty()) {
+                    scheduleDrain();
+                }
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+            emitter.complete();
+        }
+    }
+}
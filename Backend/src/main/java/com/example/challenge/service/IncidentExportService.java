@@ -0,0 +1,156 @@
+package com.example.challenge.service;
+
+import com.example.challenge.dto.response.IncidentResponseDto;
+import com.example.challenge.entity.Incident;
+import com.example.challenge.repository.IncidentRepository;
+import com.example.challenge.shared.util.CursorUtils;
+import com.example.challenge.shared.util.FilterUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exportação de incidents em NDJSON ou CSV lendo de um cursor do servidor.
+ * Cada linha é escrita direto no OutputStream; a memória fica limitada a um lote de fetch.
+ */
+@Service
+public class IncidentExportService {
+
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Filtros já normalizados e validados, prontos para abrir o cursor.
+     */
+    public record ExportQuery(Specification<Incident> specification) {}
+
+    private static final String CSV_HEADER =
+        "id,title,description,priority,status,responsibleEmail,tags,createdAt,updatedAt";
+
+    private final IncidentRepository incidentRepository;
+    private final ObjectMapper objectMapper;
+    private final IncidentArchiveService archive;
+    private final TrigramSearchSupport trigramSearch;
+    private final int fetchSize;
+
+    @Autowired
+    public IncidentExportService(IncidentRepository incidentRepository,
+                                 ObjectMapper objectMapper,
+                                 IncidentArchiveService archive,
+                                 TrigramSearchSupport trigramSearch,
+                                 @Value("${incidents.export.fetch-size:500}") int fetchSize) {
+        this.incidentRepository = incidentRepository;
+        this.objectMapper = objectMapper;
+        this.archive = archive;
+        this.trigramSearch = trigramSearch;
+        this.fetchSize = fetchSize;
+    }
+
+
+    /**
+     * Normaliza e valida os filtros antes do streaming: um filtro inválido vira 400
+     * enquanto status e cabeçalhos da resposta ainda não foram enviados.
+     */
+    public ExportQuery prepare(FilterUtils.IncidentFilters filters) {
+        FilterUtils.IncidentFilters normalized = FilterUtils.normalize(filters);
+        trigramSearch.check(normalized);
+        return new ExportQuery(Specification.allOf(FilterUtils.toSpecification(normalized), archive.scope(normalized)));
+    }
+
+
+    @Transactional(readOnly = true)
+    public void export(ExportQuery query, ExportFormat format, OutputStream outputStream) throws IOException {
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        try (Stream<IncidentResponseDto> incidents = incidentRepository.streamResponses(
+                query.specification(), CursorUtils.KEYSET_SORT, fetchSize)) {
+
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            Iterator<IncidentResponseDto> iterator = incidents.iterator();
+            long written = 0;
+            while (iterator.hasNext()) {
+                IncidentResponseDto incident = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, incident);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(incident));
+                }
+                writer.write('\n');
+
+                if (++written % fetchSize == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+    }
+
+
+    private void writeCsvRow(Writer writer, IncidentResponseDto incident) throws IOException {
+        writer.write(String.valueOf(incident.getId()));
+        writer.write(',');
+        writer.write(csv(incident.getTitle()));
+        writer.write(',');
+        writer.write(csv(incident.getDescription()));
+        writer.write(',');
+        writer.write(String.valueOf(incident.getPriority()));
+        writer.write(',');
+        writer.write(String.valueOf(incident.getStatus()));
+        writer.write(',');
+        writer.write(csv(incident.getResponsibleEmail()));
+        writer.write(',');
+        writer.write(csv(incident.getTags() == null ? null : String.join(";", incident.getTags())));
+        writer.write(',');
+        writer.write(String.valueOf(incident.getCreatedAt()));
+        writer.write(',');
+        writer.write(String.valueOf(incident.getUpdatedAt()));
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
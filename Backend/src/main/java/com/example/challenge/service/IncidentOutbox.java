@@ -0,0 +1,39 @@
+package com.example.challenge.service;
+
+import com.example.challenge.dto.response.IncidentEventDto;
+import com.example.challenge.entity.OutboxEvent;
+import com.example.challenge.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Grava eventos de incidents no outbox dentro da transação da mudança;
+ * a entrega fica a cargo do IncidentOutboxRelay.
+ */
+@Component
+public class IncidentOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public IncidentOutbox(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(IncidentEventDto event) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(
+                event.getType().name(), event.getIncidentId(), objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize incident event " + event.getType(), e);
+        }
+    }
+}
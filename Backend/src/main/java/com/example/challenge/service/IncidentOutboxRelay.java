@@ -0,0 +1,94 @@
+package com.example.challenge.service;
+
+import com.example.challenge.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Publica o outbox. Cada ciclo reivindica linhas pendentes (FOR UPDATE SKIP LOCKED, então as instâncias
+ * dividem o trabalho sem repetir linhas), envia os ids por NOTIFY e grava processed_at, tudo na mesma
+ * transação: se ela falhar, nada é notificado e as linhas seguem pendentes para o próximo ciclo.
+ * Um evento de transação que confirma tarde só é reivindicado depois, nunca pulado.
+ * <p>
+ * A difusão para os assinantes SSE de cada instância é do IncidentEventListener, que escuta o canal.
+ * O purge apaga apenas eventos processados há mais que incidents.outbox.retention.
+ */
+@Component
+public class IncidentOutboxRelay {
+
+    public static final String CHANNEL = "incident_events";
+
+    /** Ids por NOTIFY; mantém o payload bem abaixo do limite de 8000 bytes do PostgreSQL. */
+    static final int IDS_PER_NOTIFICATION = 300;
+
+    private static final Logger log = LoggerFactory.getLogger(IncidentOutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+
+    @Autowired
+    public IncidentOutboxRelay(OutboxEventRepository outboxEventRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${incidents.outbox.batch-size:200}") int batchSize,
+                               @Value("${incidents.outbox.max-batches-per-run:50}") int maxBatchesPerRun,
+                               @Value("${incidents.outbox.retention:10m}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retention = retention;
+    }
+
+
+    @Scheduled(initialDelayString = "${incidents.outbox.poll-interval-ms:1000}",
+               fixedDelayString = "${incidents.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer published = transactionTemplate.execute(status -> publishBatch());
+            if (published == null || published < batchSize) {
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Apaga eventos processados mais antigos que a retenção; todas as instâncias rodam, o DELETE é idempotente.
+     */
+    @Scheduled(fixedDelayString = "${incidents.outbox.purge-interval-ms:60000}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        Integer removed = transactionTemplate.execute(status -> outboxEventRepository.deleteProcessedBefore(cutoff));
+        if (removed != null && removed > 0) {
+            log.debug("Purged {} outbox events processed before {}", removed, cutoff);
+        }
+    }
+
+
+    private int publishBatch() {
+        List<Long> ids = outboxEventRepository.claimPending(batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        for (int from = 0; from < ids.size(); from += IDS_PER_NOTIFICATION) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IDS_PER_NOTIFICATION, ids.size()));
+            outboxEventRepository.publish(CHANNEL, chunk.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+        outboxEventRepository.markProcessed(ids, LocalDateTime.now());
+        return ids.size();
+    }
+}
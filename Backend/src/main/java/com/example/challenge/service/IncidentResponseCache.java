@@ -0,0 +1,50 @@
+package com.example.challenge.service;
+
+import com.example.challenge.dto.response.IncidentResponseDto;
+import com.example.challenge.shared.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Cache read-through do detalhe de incident, limitado por tamanho e TTL.
+ * As escritas invalidam a entrada já e de novo após o commit, para que uma leitura
+ * concorrente anterior ao commit não deixe a versão antiga no cache.
+ */
+@Component
+public class IncidentResponseCache {
+
+    private final Cache<UUID, IncidentResponseDto> cache;
+
+    @Autowired
+    public IncidentResponseCache(@Value("${incidents.cache.max-size:10000}") long maxSize,
+                                 @Value("${incidents.cache.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+
+    public IncidentResponseDto get(UUID id, Function<UUID, IncidentResponseDto> loader) {
+        return cache.get(id, loader);
+    }
+
+
+    public void evict(UUID id) {
+        cache.invalidate(id);
+        TransactionUtils.afterCommit(() -> cache.invalidate(id));
+    }
+
+
+    public void evictAll() {
+        cache.invalidateAll();
+        TransactionUtils.afterCommit(cache::invalidateAll);
+    }
+}
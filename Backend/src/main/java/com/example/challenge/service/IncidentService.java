@@ -2,43 +2,134 @@ package com.example.challenge.service;
 
 import com.example.challenge.dto.request.IncidentCreateDto;
 import com.example.challenge.dto.request.StatusUpdateDto;
+import com.example.challenge.dto.response.BulkStatusUpdateResponseDto;
+import com.example.challenge.dto.response.IncidentEventDto;
 import com.example.challenge.dto.response.IncidentResponseDto;
 import com.example.challenge.entity.Incident;
 import com.example.challenge.entity.IncidentPriority;
 import com.example.challenge.entity.Status;
+import com.example.challenge.repository.CommentRepository;
+import com.example.challenge.repository.IncidentCount;
+import com.example.challenge.repository.IncidentCountProjection;
 import com.example.challenge.repository.IncidentRepository;
+import com.example.challenge.repository.IncidentSpecifications;
+import com.example.challenge.repository.IncidentStatusRow;
+import com.example.challenge.shared.dto.CursorPageResponse;
 import com.example.challenge.shared.dto.PageResponse;
 import com.example.challenge.shared.exception.NotFoundException;
+import com.example.challenge.shared.exception.ValidationException;
 import com.example.challenge.shared.mapper.IncidentMapper;
 import com.example.challenge.shared.util.AuditUtils;
+import com.example.challenge.shared.util.CursorUtils;
 import com.example.challenge.shared.util.FilterUtils;
 import com.example.challenge.shared.util.TagUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 
 @Service
 @Transactional
 public class IncidentService {
     
+    /** Ids por UPDATE e por evento em massa: mantém o IN e o payload do outbox limitados. */
+    private static final int BULK_CHUNK_SIZE = 500;
+    
     private final IncidentRepository incidentRepository;
+    private final CommentRepository commentRepository;
     private final IncidentMapper incidentMapper;
+    private final IncidentStatsCounters statsCounters;
+    private final IncidentResponseCache responseCache;
+    private final IncidentOutbox outbox;
+    private final IncidentArchiveService archive;
+    private final TrigramSearchSupport trigramSearch;
+    private final int maxStatusMatches;
     
     @Autowired
     public IncidentService(IncidentRepository incidentRepository,
-                          IncidentMapper incidentMapper) {
+                          CommentRepository commentRepository,
+                          IncidentMapper incidentMapper,
+                          IncidentStatsCounters statsCounters,
+                          IncidentResponseCache responseCache,
+                          IncidentOutbox outbox,
+                          IncidentArchiveService archive,
+                          TrigramSearchSupport trigramSearch,
+                          @Value("${incidents.bulk.status-max-matches:10000}") int maxStatusMatches) {
         this.incidentRepository = incidentRepository;
+        this.commentRepository = commentRepository;
         this.incidentMapper = incidentMapper;
+        this.statsCounters = statsCounters;
+        this.responseCache = responseCache;
+        this.outbox = outbox;
+        this.archive = archive;
+        this.trigramSearch = trigramSearch;
+        this.maxStatusMatches = maxStatusMatches;
     }
     
 
     public IncidentResponseDto createIncident(IncidentCreateDto createDto) {
 
+        Incident incident = prepareNewIncident(createDto);
+        
+        Incident savedIncident = incidentRepository.save(incident);
+        statsCounters.recordCreated(savedIncident.getStatus(), savedIncident.getPriority());
+        outbox.record(toEvent(IncidentEventDto.Type.INCIDENT_CREATED, savedIncident));
+        
+        return incidentMapper.toResponseDto(savedIncident);
+    }
+    
+
+    /**
+     * Persiste um lote já validado em uma única transação; com hibernate.jdbc.batch_size
+     * os INSERTs de incidents e incident_tags seguem agrupados no flush.
+     */
+    public List<UUID> createIncidents(List<IncidentCreateDto> createDtos) {
+        List<Incident> incidents = createDtos.stream()
+            .map(this::prepareNewIncident)
+            .collect(Collectors.toList());
+        
+        List<Incident> savedIncidents = incidentRepository.saveAll(incidents);
+        incidentRepository.flush();
+        
+        List<UUID> ids = new ArrayList<>(savedIncidents.size());
+        for (Incident savedIncident : savedIncidents) {
+            statsCounters.recordCreated(savedIncident.getStatus(), savedIncident.getPriority());
+            ids.add(savedIncident.getId());
+        }
+        // Um evento por status e prioridade, com as tags do lote, para os filtros dos assinantes
+        Map<Status, Map<IncidentPriority, List<Incident>>> groups = savedIncidents.stream().collect(Collectors.groupingBy(
+            Incident::getStatus, Collectors.groupingBy(Incident::getPriority)));
+        groups.forEach((groupStatus, byPriority) -> byPriority.forEach((priority, group) -> {
+            for (List<Incident> chunk : chunks(group)) {
+                List<String> tags = chunk.stream()
+                    .filter(incident -> incident.getTags() != null)
+                    .flatMap(incident -> incident.getTags().stream())
+                    .distinct()
+                    .toList();
+                outbox.record(IncidentEventDto.batch(IncidentEventDto.Type.INCIDENTS_CREATED, groupStatus, priority,
+                    tags, chunk.stream().map(Incident::getId).toList()));
+            }
+        }));
+        return ids;
+    }
+    
+
+    private Incident prepareNewIncident(IncidentCreateDto createDto) {
         Incident incident = incidentMapper.toEntity(createDto);
         
         if (incident.getStatus() == null) {
@@ -49,40 +140,117 @@ public class IncidentService {
         
         AuditUtils.touchCreate(incident);
         
-        Incident savedIncident = incidentRepository.save(incident);
+        return incident;
+    }
+    
+
+    /**
+     * Leitura do detalhe via IncidentResponseCache; só uma falha no cache vai ao banco,
+     * com uma consulta de projeção que não precisa de transação.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public IncidentResponseDto findById(UUID id) {
+        return responseCache.get(id, key -> incidentRepository.findResponseById(key)
+            .orElseThrow(() -> new NotFoundException("Incident", key)));
+    }
+    
+
+    @Transactional(readOnly = true)
+    public PageResponse<IncidentResponseDto> findAll(FilterUtils.IncidentFilters filters, Pageable pageable,
+                                                    boolean includeTotal) {
         
-        return incidentMapper.toResponseDto(savedIncident);
+        FilterUtils.IncidentFilters normalized = normalize(filters);
+        if (!includeTotal) {
+            return PageResponse.ofSlice(
+                FilterUtils.buildIncidentSlice(incidentRepository, normalized, archive.scope(normalized), pageable));
+        }
+        
+        return PageResponse.of(
+            FilterUtils.buildIncidentFilter(incidentRepository, normalized, archive.scope(normalized), pageable));
     }
     
 
     @Transactional(readOnly = true)
-    public IncidentResponseDto findById(UUID id) {
-        Incident incident = incidentRepository.findById(id)
-            .orElseThrow(() -> new NotFoundException("Incident", id));
-            
-        return incidentMapper.toResponseDto(incident);
+    public CursorPageResponse<IncidentResponseDto> findAllByCursor(FilterUtils.IncidentFilters filters,
+                                                                  String cursor, int size) {
+        
+        return scrollByCursor(scopedSpecification(normalize(filters)), cursor, size);
     }
     
 
+    /**
+     * Visão padrão do dashboard: apenas incidents OPEN/IN_PROGRESS, servidos pelos índices parciais,
+     * com o custo independente do volume de histórico resolvido.
+     */
     @Transactional(readOnly = true)
-    public PageResponse<IncidentResponseDto> findAll(Status status, IncidentPriority priority, 
-                                                    String q, Pageable pageable) {
+    public CursorPageResponse<IncidentResponseDto> findActive(FilterUtils.IncidentFilters filters,
+                                                             String cursor, int size) {
         
-        FilterUtils.IncidentFilters filters = new FilterUtils.IncidentFilters(
-            status, 
-            priority, 
-            FilterUtils.normalizeSearchTerm(q)
-        );
+        return scrollByCursor(activeSpecification(filters), cursor, size);
+    }
+    
+
+    private FilterUtils.IncidentFilters normalize(FilterUtils.IncidentFilters filters) {
+        FilterUtils.IncidentFilters normalized = FilterUtils.normalize(filters);
+        trigramSearch.check(normalized);
+        return normalized;
+    }
+    
+
+    /**
+     * Filtros do usuário mais o escopo de partição: o arquivo só entra quando o intervalo de createdAt pede.
+     */
+    private Specification<Incident> scopedSpecification(FilterUtils.IncidentFilters normalized) {
+        return Specification.allOf(FilterUtils.toSpecification(normalized), archive.scope(normalized));
+    }
+    
+
+    private Specification<Incident> activeSpecification(FilterUtils.IncidentFilters filters) {
+        if (filters.hasStatus() && !filters.getStatus().isActive()) {
+            throw new ValidationException("status", filters.getStatus().name(),
+                "Active incidents view only covers OPEN and IN_PROGRESS");
+        }
+        // Incidents arquivados estão sempre encerrados: a partição de arquivo nunca entra aqui
+        return Specification.allOf(IncidentSpecifications.isActive(), IncidentSpecifications.isNotArchived(),
+                                   FilterUtils.toSpecification(normalize(filters)));
+    }
+    
+
+    private CursorPageResponse<IncidentResponseDto> scrollByCursor(Specification<Incident> spec,
+                                                                  String cursor, int size) {
+        
+        KeysetScrollPosition position = CursorUtils.decode(cursor);
         
-        Page<Incident> incidentPage = FilterUtils.buildIncidentFilter(
-            (IncidentRepository) incidentRepository, 
-            filters, 
-            pageable
+        Window<Incident> window = incidentRepository.findBy(
+            spec,
+            query -> query.sortBy(CursorUtils.KEYSET_SORT).limit(size).scroll(position)
         );
         
-        Page<IncidentResponseDto> dtoPage = incidentPage.map(incidentMapper::toResponseDto);
+        List<IncidentResponseDto> content = window.getContent().stream()
+            .map(incidentMapper::toResponseDto)
+            .collect(Collectors.toList());
         
-        return PageResponse.of(dtoPage);
+        boolean forward = position.scrollsForward();
+        boolean moreAhead = forward ? window.hasNext() : !position.isInitial();
+        boolean moreBehind = forward ? !position.isInitial() : window.hasNext();
+        
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!window.isEmpty()) {
+            if (moreAhead) {
+                nextCursor = CursorUtils.encode(ScrollPosition.forward(keysAt(window, window.size() - 1)));
+            }
+            if (moreBehind) {
+                prevCursor = CursorUtils.encode(ScrollPosition.backward(keysAt(window, 0)));
+            }
+        }
+        
+        return new CursorPageResponse<>(content, size, nextCursor, prevCursor);
+    }
+    
+
+    private static Map<String, ?> keysAt(Window<Incident> window, int index) {
+        return ((KeysetScrollPosition) window.positionAt(index)).getKeys();
     }
     
 
@@ -91,14 +259,21 @@ public class IncidentService {
             .orElseThrow(() -> new NotFoundException("Incident", id));
         
         var originalCreatedAt = existingIncident.getCreatedAt();
+        Status originalStatus = existingIncident.getStatus();
+        IncidentPriority originalPriority = existingIncident.getPriority();
         
         incidentMapper.updateEntityFromDto(existingIncident, updateDto);
         
         existingIncident.setTags(TagUtils.normalizeTags(existingIncident.getTags()));
+        restoreIfReopened(existingIncident);
         
         AuditUtils.touchUpdatePreservingCreated(existingIncident, originalCreatedAt);
         
         Incident savedIncident = incidentRepository.save(existingIncident);
+        responseCache.evict(id);
+        statsCounters.recordChanged(originalStatus, originalPriority,
+                                    savedIncident.getStatus(), savedIncident.getPriority());
+        outbox.record(toChangeEvent(IncidentEventDto.Type.INCIDENT_UPDATED, savedIncident, originalStatus));
         return incidentMapper.toResponseDto(savedIncident);
     }
     
@@ -107,20 +282,149 @@ public class IncidentService {
         Incident existingIncident = incidentRepository.findById(id)
             .orElseThrow(() -> new NotFoundException("Incident", id));
         
+        Status originalStatus = existingIncident.getStatus();
         existingIncident.setStatus(statusDto.getStatus());
+        restoreIfReopened(existingIncident);
         
         AuditUtils.touchUpdate(existingIncident);
         
         Incident savedIncident = incidentRepository.save(existingIncident);
+        responseCache.evict(id);
+        statsCounters.recordChanged(originalStatus, savedIncident.getPriority(),
+                                    savedIncident.getStatus(), savedIncident.getPriority());
+        outbox.record(toChangeEvent(IncidentEventDto.Type.INCIDENT_STATUS_CHANGED, savedIncident, originalStatus));
         return incidentMapper.toResponseDto(savedIncident);
     }
     
 
-    public void deleteIncident(UUID id) {
-        if (!incidentRepository.existsById(id)) {
-            throw new NotFoundException("Incident", id);
+    /**
+     * Trava os incidents alvo, aplica a transição em UPDATEs por lote de ids e publica os ids movidos.
+     * Linhas que já estão no status alvo não são tocadas, preservando o updatedAt delas.
+     * Ids pedidos que não foram movidos voltam em skippedIds. Um filtro que alcança mais de
+     * incidents.bulk.status-max-matches incidents é recusado antes de qualquer UPDATE.
+     */
+    public BulkStatusUpdateResponseDto updateStatusBulk(FilterUtils.IncidentFilters filters, List<UUID> ids, Status status) {
+        FilterUtils.IncidentFilters normalized = normalize(filters);
+        if (!normalized.hasAnyFilter() && (ids == null || ids.isEmpty())) {
+            throw new ValidationException("Bulk status update requires ids or at least one filter");
+        }
+        
+        Specification<Incident> target = Specification.allOf(
+            scopedSpecification(normalized),
+            IncidentSpecifications.hasIdIn(ids),
+            IncidentSpecifications.hasStatusOtherThan(status)
+        );
+        
+        // Lê um além do teto só para saber se o filtro o ultrapassa
+        List<IncidentStatusRow> moved = incidentRepository.lockForStatusUpdate(target, maxStatusMatches + 1);
+        if (moved.size() > maxStatusMatches) {
+            throw new ValidationException("Bulk status update matches more than " + maxStatusMatches
+                + " incidents; narrow the filter or send ids");
+        }
+        LocalDateTime updatedAt = LocalDateTime.now();
+        int affected = 0;
+        // Um evento por status de origem e prioridade, para os assinantes saberem de onde cada lote saiu
+        // e filtrarem por prioridade; as tags do lote vêm de uma consulta por chunk
+        Map<Status, Map<IncidentPriority, List<UUID>>> groups = moved.stream().collect(Collectors.groupingBy(
+            IncidentStatusRow::status, Collectors.groupingBy(IncidentStatusRow::priority,
+                Collectors.mapping(IncidentStatusRow::id, Collectors.toList()))));
+        for (Map.Entry<Status, Map<IncidentPriority, List<UUID>>> byStatus : groups.entrySet()) {
+            for (Map.Entry<IncidentPriority, List<UUID>> group : byStatus.getValue().entrySet()) {
+                for (List<UUID> chunk : chunks(group.getValue())) {
+                    affected += incidentRepository.updateStatus(IncidentSpecifications.hasIdIn(chunk), status, updatedAt);
+                    if (status.isActive()) {
+                        // updateStatus tirou do arquivo os incidents reabertos; os comentários acompanham
+                        commentRepository.restoreByIncidentIds(chunk);
+                    }
+                    chunk.forEach(responseCache::evict);
+                    
+                    IncidentEventDto event = IncidentEventDto.batch(IncidentEventDto.Type.INCIDENTS_STATUS_CHANGED,
+                        status, group.getKey(), incidentRepository.findDistinctTagsByIdIn(chunk), chunk);
+                    event.setPreviousStatus(byStatus.getKey());
+                    outbox.record(event);
+                }
+            }
         }
+        statsCounters.recordStatusTransition(countByStatusAndPriority(moved), status);
         
-        incidentRepository.deleteById(id);
+        return new BulkStatusUpdateResponseDto(status, affected, skippedIds(ids, moved));
+    }
+    
+
+    private static List<IncidentCountProjection> countByStatusAndPriority(List<IncidentStatusRow> rows) {
+        Map<Status, Map<IncidentPriority, Long>> cube = rows.stream().collect(Collectors.groupingBy(
+            IncidentStatusRow::status, Collectors.groupingBy(IncidentStatusRow::priority, Collectors.counting())));
+        
+        List<IncidentCountProjection> cells = new ArrayList<>();
+        cube.forEach((rowStatus, byPriority) -> byPriority.forEach((priority, total) ->
+            cells.add(new IncidentCount(rowStatus, priority, total))));
+        return cells;
+    }
+    
+
+    private static List<UUID> skippedIds(List<UUID> requested, List<IncidentStatusRow> moved) {
+        if (requested == null || requested.isEmpty()) {
+            return List.of();
+        }
+        LinkedHashSet<UUID> skipped = new LinkedHashSet<>(requested);
+        moved.forEach(row -> skipped.remove(row.id()));
+        return List.copyOf(skipped);
+    }
+    
+
+    private static <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += BULK_CHUNK_SIZE) {
+            chunks.add(List.copyOf(items.subList(from, Math.min(from + BULK_CHUNK_SIZE, items.size()))));
+        }
+        return chunks;
+    }
+    
+
+    public void deleteIncident(UUID id) {
+        Incident incident = incidentRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException("Incident", id));
+        
+        // O evento lê as tags antes que o remove apague a coleção
+        IncidentEventDto deleted = toEvent(IncidentEventDto.Type.INCIDENT_DELETED, incident);
+        incidentRepository.delete(incident);
+        responseCache.evict(id);
+        statsCounters.recordDeleted(incident.getStatus(), incident.getPriority());
+        outbox.record(deleted);
+    }
+    
+
+    /**
+     * Um incident arquivado que volta a um status ativo retorna para incidents_live, com seus comentários.
+     */
+    private void restoreIfReopened(Incident incident) {
+        if (incident.isArchived() && incident.getStatus().isActive()) {
+            incident.setArchived(false);
+            commentRepository.restoreByIncidentIds(List.of(incident.getId()));
+        }
+    }
+    
+
+    static IncidentEventDto toEvent(IncidentEventDto.Type type, Incident incident) {
+        return toEvent(type, incident, null);
+    }
+    
+
+    /**
+     * Evento de alteração; leva o status anterior quando ele mudou.
+     */
+    private static IncidentEventDto toChangeEvent(IncidentEventDto.Type type, Incident incident, Status previousStatus) {
+        IncidentEventDto event = toEvent(type, incident);
+        if (previousStatus != incident.getStatus()) {
+            event.setPreviousStatus(previousStatus);
+        }
+        return event;
+    }
+    
+
+    static IncidentEventDto toEvent(IncidentEventDto.Type type, Incident incident, UUID commentId) {
+        List<String> tags = incident.getTags() == null ? null : List.copyOf(incident.getTags());
+        return new IncidentEventDto(type, incident.getId(), commentId,
+                                    incident.getStatus(), incident.getPriority(), tags);
     }
 } 
\ No newline at end of file
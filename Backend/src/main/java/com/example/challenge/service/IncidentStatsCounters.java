@@ -0,0 +1,168 @@
+package com.example.challenge.service;
+
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+import com.example.challenge.repository.IncidentCount;
+import com.example.challenge.repository.IncidentCountProjection;
+import com.example.challenge.repository.IncidentRepository;
+import com.example.challenge.shared.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Contadores em memória do cubo status x prioridade.
+ * Atualizados pelo IncidentService após o commit e reconciliados periodicamente
+ * com o banco para corrigir desvios (crash, rollback, SQL direto).
+ * <p>
+ * A reconciliação não sobrescreve células em uso: enquanto o GROUP BY roda, os deltas vão também
+ * para um cubo de pendentes, e o cubo novo (banco + pendentes) substitui o antigo de uma vez,
+ * sob o write lock que os deltas disputam em modo compartilhado.
+ */
+@Component
+public class IncidentStatsCounters {
+
+    private static final Status[] STATUSES = Status.values();
+    private static final IncidentPriority[] PRIORITIES = IncidentPriority.values();
+
+    private final IncidentRepository incidentRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile LongAdder[][] cells = newCube();
+    /** Deltas registrados durante a consulta da reconciliação em curso; null fora dela. */
+    private LongAdder[][] pending;
+    private volatile boolean ready;
+
+    @Autowired
+    public IncidentStatsCounters(IncidentRepository incidentRepository) {
+        this.incidentRepository = incidentRepository;
+    }
+
+
+    public void recordCreated(Status status, IncidentPriority priority) {
+        TransactionUtils.afterCommit(() -> add(status, priority, 1));
+    }
+
+
+    public void recordDeleted(Status status, IncidentPriority priority) {
+        TransactionUtils.afterCommit(() -> add(status, priority, -1));
+    }
+
+
+    /**
+     * Move de uma vez as contagens de um cubo parcial para o status informado.
+     */
+    public void recordStatusTransition(List<IncidentCountProjection> moved, Status newStatus) {
+        TransactionUtils.afterCommit(() -> {
+            for (IncidentCountProjection cell : moved) {
+                add(cell.getStatus(), cell.getPriority(), -cell.getTotal());
+                add(newStatus, cell.getPriority(), cell.getTotal());
+            }
+        });
+    }
+
+
+    public void recordChanged(Status oldStatus, IncidentPriority oldPriority,
+                              Status newStatus, IncidentPriority newPriority) {
+        if (oldStatus == newStatus && oldPriority == newPriority) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            add(oldStatus, oldPriority, -1);
+            add(newStatus, newPriority, 1);
+        });
+    }
+
+    /**
+     * Retorna o cubo atual; enquanto a primeira reconciliação não ocorreu, consulta o banco.
+     */
+    public List<IncidentCountProjection> snapshot() {
+        if (!ready) {
+            return incidentRepository.countByStatusAndPriority();
+        }
+
+        LongAdder[][] current = cells;
+        List<IncidentCountProjection> cube = new ArrayList<>(STATUSES.length * PRIORITIES.length);
+        for (int s = 0; s < STATUSES.length; s++) {
+            for (int p = 0; p < PRIORITIES.length; p++) {
+                cube.add(new IncidentCount(STATUSES[s], PRIORITIES[p], Math.max(0, current[s][p].sum())));
+            }
+        }
+        return cube;
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${incidents.stats.reconcile-interval-ms:60000}",
+               fixedDelayString = "${incidents.stats.reconcile-interval-ms:60000}")
+    public synchronized void reconcile() {
+        LongAdder[][] sinceQuery = newCube();
+        withWriteLock(() -> pending = sinceQuery);
+        try {
+            List<IncidentCountProjection> fromDatabase = incidentRepository.countByStatusAndPriority();
+
+            LongAdder[][] fresh = newCube();
+            for (IncidentCountProjection row : fromDatabase) {
+                fresh[row.getStatus().ordinal()][row.getPriority().ordinal()].add(row.getTotal());
+            }
+            withWriteLock(() -> {
+                for (int s = 0; s < STATUSES.length; s++) {
+                    for (int p = 0; p < PRIORITIES.length; p++) {
+                        fresh[s][p].add(sinceQuery[s][p].sum());
+                    }
+                }
+                cells = fresh;
+                pending = null;
+            });
+        } finally {
+            withWriteLock(() -> pending = null);
+        }
+        ready = true;
+    }
+
+
+    private void add(Status status, IncidentPriority priority, long delta) {
+        if (status == null || priority == null) {
+            return;
+        }
+        int s = status.ordinal();
+        int p = priority.ordinal();
+        lock.readLock().lock();
+        try {
+            cells[s][p].add(delta);
+            if (pending != null) {
+                pending[s][p].add(delta);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    private static LongAdder[][] newCube() {
+        LongAdder[][] cube = new LongAdder[STATUSES.length][PRIORITIES.length];
+        for (int s = 0; s < STATUSES.length; s++) {
+            for (int p = 0; p < PRIORITIES.length; p++) {
+                cube[s][p] = new LongAdder();
+            }
+        }
+        return cube;
+    }
+}
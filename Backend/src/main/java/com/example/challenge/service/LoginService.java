@@ -0,0 +1,132 @@
+package com.example.challenge.service;
+
+import com.example.challenge.dto.request.LoginRequest;
+import com.example.challenge.entity.Role;
+import com.example.challenge.entity.User;
+import com.example.challenge.repository.UsersRepository;
+import com.example.challenge.shared.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Verificação de credenciais do login.
+ * Credenciais já verificadas ficam num cache curto, indexado por um HMAC de usuário e senha
+ * com chave aleatória do processo, então um acerto não toca o banco nem o BCrypt.
+ * Hashes com custo diferente do configurado são refeitos no primeiro login bem-sucedido.
+ */
+@Service
+public class LoginService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    public record VerifiedLogin(UUID userId, String scopes) {
+    }
+
+    private final UsersRepository userRepository;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final int bcryptStrength;
+    private final Cache<String, VerifiedLogin> verifiedLogins;
+    private final SecretKeySpec cacheKey;
+
+    @Autowired
+    public LoginService(UsersRepository userRepository,
+                        BCryptPasswordEncoder passwordEncoder,
+                        @Value("${security.password.bcrypt-strength:10}") int bcryptStrength,
+                        @Value("${security.login.cache-ttl:60s}") Duration cacheTtl,
+                        @Value("${security.login.cache-max-size:10000}") long cacheMaxSize) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.bcryptStrength = bcryptStrength;
+        this.verifiedLogins = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfterWrite(cacheTtl)
+            .build();
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.cacheKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+
+    public VerifiedLogin authenticate(LoginRequest loginRequest) {
+        if (loginRequest.username() == null || loginRequest.password() == null) {
+            throw new BadCredentialsException("user or password is invalid!");
+        }
+
+        String key = cacheKeyFor(loginRequest);
+        VerifiedLogin cached = verifiedLogins.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        User user = userRepository.findByUsername(loginRequest.username())
+            .filter(candidate -> candidate.isLoginCorrect(loginRequest, passwordEncoder))
+            .orElseThrow(() -> new BadCredentialsException("user or password is invalid!"));
+
+        if (needsRehash(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(loginRequest.password()));
+            userRepository.save(user);
+        }
+
+        VerifiedLogin verified = new VerifiedLogin(user.getUserId(), scopesOf(user));
+        verifiedLogins.put(key, verified);
+        return verified;
+    }
+
+
+    public static String scopesOf(User user) {
+        return user.getRoles()
+            .stream()
+            .map(Role::getName)
+            .collect(Collectors.joining(" "));
+    }
+
+
+    /**
+     * Chamado quando senha, papéis ou existência de um usuário mudam.
+     */
+    public void invalidateAll() {
+        verifiedLogins.invalidateAll();
+        TransactionUtils.afterCommit(verifiedLogins::invalidateAll);
+    }
+
+
+    private boolean needsRehash(String encodedPassword) {
+        // Formato $2a$NN$...: NN é o custo com que o hash foi gerado
+        if (encodedPassword == null || encodedPassword.length() < 7) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != bcryptStrength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private String cacheKeyFor(LoginRequest loginRequest) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(cacheKey);
+            mac.update(loginRequest.username().getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(loginRequest.password().getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC unavailable for login cache", e);
+        }
+    }
+}
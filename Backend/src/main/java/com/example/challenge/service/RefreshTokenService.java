@@ -0,0 +1,117 @@
+package com.example.challenge.service;
+
+import com.example.challenge.entity.RefreshToken;
+import com.example.challenge.entity.User;
+import com.example.challenge.repository.RefreshTokenRepository;
+import com.example.challenge.repository.UsersRepository;
+import com.example.challenge.shared.util.OpaqueTokenUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Refresh tokens opacos e rotativos. O cliente recebe 32 bytes aleatórios; o banco guarda só o SHA-256.
+ * Cada uso revoga o token e emite o próximo da mesma família; reapresentar um token já
+ * rotacionado indica vazamento e revoga a família inteira.
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    public record Rotation(LoginService.VerifiedLogin login, String refreshToken) {
+    }
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UsersRepository userRepository;
+    private final Duration refreshTokenTtl;
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UsersRepository userRepository,
+                               @Value("${security.jwt.refresh-token-ttl:7d}") Duration refreshTokenTtl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+
+    public Duration getRefreshTokenTtl() {
+        return refreshTokenTtl;
+    }
+
+
+    public String issue(UUID userId) {
+        return issue(userId, UUID.randomUUID());
+    }
+
+
+    /**
+     * Uma busca pelo índice único do hash e um UPDATE condicional; nenhum BCrypt.
+     * noRollbackFor mantém a revogação da família quando o reuso é detectado.
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public Rotation rotate(String presentedToken) {
+        RefreshToken current = findPresented(presentedToken);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (current.getRevokedAt() != null) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            throw new BadCredentialsException("refresh token reuse detected");
+        }
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new BadCredentialsException("refresh token expired");
+        }
+        if (refreshTokenRepository.revokeIfActive(current.getId(), now) == 0) {
+            throw new BadCredentialsException("refresh token already used");
+        }
+
+        User user = userRepository.findById(current.getUserId())
+            .orElseThrow(() -> new BadCredentialsException("refresh token is invalid"));
+
+        String next = issue(user.getUserId(), current.getFamilyId());
+        return new Rotation(new LoginService.VerifiedLogin(user.getUserId(), LoginService.scopesOf(user)), next);
+    }
+
+
+    public void revoke(String presentedToken) {
+        RefreshToken current = findPresented(presentedToken);
+        refreshTokenRepository.revokeFamily(current.getFamilyId(), LocalDateTime.now());
+    }
+
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void revokeAllForUser(UUID userId) {
+        refreshTokenRepository.revokeAllForUser(userId, LocalDateTime.now());
+    }
+
+
+    @Scheduled(fixedDelayString = "${security.jwt.refresh-token-cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+
+    private String issue(UUID userId, UUID familyId) {
+        String token = OpaqueTokenUtils.generate();
+
+        refreshTokenRepository.save(new RefreshToken(
+            OpaqueTokenUtils.hash(token), familyId, userId, LocalDateTime.now().plus(refreshTokenTtl)));
+        return token;
+    }
+
+    private RefreshToken findPresented(String presentedToken) {
+        if (presentedToken == null || presentedToken.isBlank()) {
+            throw new BadCredentialsException("refresh token is invalid");
+        }
+        return refreshTokenRepository.findByTokenHash(OpaqueTokenUtils.hash(presentedToken))
+            .orElseThrow(() -> new BadCredentialsException("refresh token is invalid"));
+    }
+}
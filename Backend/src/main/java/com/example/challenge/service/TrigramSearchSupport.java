@@ -0,0 +1,37 @@
+package com.example.challenge.service;
+
+import com.example.challenge.repository.IncidentRepository;
+import com.example.challenge.shared.exception.ValidationException;
+import com.example.challenge.shared.util.FilterUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recusa searchMode=TRIGRAM quando o banco não tem pg_trgm (ver V7), em vez de deixar a
+ * consulta falhar no PostgreSQL. A extensão é verificada uma vez; instalá-la depois exige reiniciar.
+ */
+@Component
+public class TrigramSearchSupport {
+
+    private final IncidentRepository incidentRepository;
+    private volatile Boolean installed;
+
+    @Autowired
+    public TrigramSearchSupport(IncidentRepository incidentRepository) {
+        this.incidentRepository = incidentRepository;
+    }
+
+
+    public void check(FilterUtils.IncidentFilters filters) {
+        if (filters.getSearchMode() != FilterUtils.SearchMode.TRIGRAM || !filters.hasSearchTerm()) {
+            return;
+        }
+        if (installed == null) {
+            installed = incidentRepository.isTrigramExtensionInstalled();
+        }
+        if (!installed) {
+            throw new ValidationException("searchMode", FilterUtils.SearchMode.TRIGRAM.name(),
+                "Trigram search requires the pg_trgm extension, which is not installed in this database");
+        }
+    }
+}
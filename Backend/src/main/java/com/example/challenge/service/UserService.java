@@ -31,16 +31,22 @@ public class UserService {
     private final RoleRepository roleRepository;
     private final UserMapper userMapper;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final LoginService loginService;
+    private final RefreshTokenService refreshTokenService;
     
     @Autowired
     public UserService(UsersRepository userRepository, 
                        RoleRepository roleRepository,
                        UserMapper userMapper,
-                       BCryptPasswordEncoder passwordEncoder) {
+                       BCryptPasswordEncoder passwordEncoder,
+                       LoginService loginService,
+                       RefreshTokenService refreshTokenService) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
+        this.loginService = loginService;
+        this.refreshTokenService = refreshTokenService;
     }
     
 
@@ -102,6 +108,7 @@ public class UserService {
         
         if (updateDto.getPassword() != null) {
             existingUser.setPassword(passwordEncoder.encode(updateDto.getPassword()));
+            refreshTokenService.revokeAllForUser(id);
         }
         
         if (updateDto.getRoleNames() != null) {
@@ -110,6 +117,7 @@ public class UserService {
         }
         
         User savedUser = userRepository.save(existingUser);
+        loginService.invalidateAll();
         return userMapper.toResponseDto(savedUser);
     }
     
@@ -120,6 +128,7 @@ public class UserService {
         }
         
         userRepository.deleteById(id);
+        loginService.invalidateAll();
     }
     
 
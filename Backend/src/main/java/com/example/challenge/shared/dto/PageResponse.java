@@ -1,6 +1,8 @@
 package com.example.challenge.shared.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import java.util.List;
 
 
@@ -9,14 +11,30 @@ public class PageResponse<T> {
     private List<T> content;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
     private boolean first;
     private boolean last;
     private boolean empty;
+    private boolean hasNext;
     
     public PageResponse() {}
     
+    /**
+     * Página sem totais: totalElements/totalPages ficam nulos e são omitidos do JSON.
+     */
+    public PageResponse(Slice<T> slice) {
+        this.content = slice.getContent();
+        this.page = slice.getNumber();
+        this.size = slice.getSize();
+        this.first = slice.isFirst();
+        this.last = slice.isLast();
+        this.empty = slice.isEmpty();
+        this.hasNext = slice.hasNext();
+    }
+    
     public PageResponse(Page<T> page) {
         this.content = page.getContent();
         this.page = page.getNumber();
@@ -26,6 +44,7 @@ public class PageResponse<T> {
         this.first = page.isFirst();
         this.last = page.isLast();
         this.empty = page.isEmpty();
+        this.hasNext = page.hasNext();
     }
     
 
@@ -33,6 +52,10 @@ public class PageResponse<T> {
         return new PageResponse<>(page);
     }
     
+    public static <T> PageResponse<T> ofSlice(Slice<T> slice) {
+        return new PageResponse<>(slice);
+    }
+    
 
     public List<T> getContent() {
         return content;
@@ -58,19 +81,19 @@ public class PageResponse<T> {
         this.size = size;
     }
     
-    public long getTotalElements() {
+    public Long getTotalElements() {
         return totalElements;
     }
     
-    public void setTotalElements(long totalElements) {
+    public void setTotalElements(Long totalElements) {
         this.totalElements = totalElements;
     }
     
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
     
-    public void setTotalPages(int totalPages) {
+    public void setTotalPages(Integer totalPages) {
         this.totalPages = totalPages;
     }
     
@@ -97,4 +120,12 @@ public class PageResponse<T> {
     public void setEmpty(boolean empty) {
         this.empty = empty;
     }
+    
+    public boolean isHasNext() {
+        return hasNext;
+    }
+    
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
 } 
\ No newline at end of file
@@ -5,6 +5,8 @@ import com.example.challenge.dto.response.IncidentResponseDto;
 import com.example.challenge.entity.Incident;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 
 @Component
 public class IncidentMapper {
@@ -22,7 +24,7 @@ public class IncidentMapper {
             incident.getPriority(),
             incident.getStatus(),
             incident.getResponsibleEmail(),
-            incident.getTags(),
+            incident.getTags() == null ? List.of() : incident.getTags(),
             incident.getCreatedAt(),
             incident.getUpdatedAt()
         );
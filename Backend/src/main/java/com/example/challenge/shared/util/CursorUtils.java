@@ -0,0 +1,65 @@
+package com.example.challenge.shared.util;
+
+import com.example.challenge.shared.exception.ValidationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cursores opacos para paginação por keyset de incidents.
+ * O cursor carrega a direção e a chave de ordenação (createdAt, id) do registro de borda.
+ */
+public class CursorUtils {
+
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "createdAt")
+        .and(Sort.by(Sort.Direction.DESC, "id"));
+
+    private static final String FORWARD = "f";
+    private static final String BACKWARD = "b";
+    private static final String SEPARATOR = "|";
+
+
+    public static String encode(KeysetScrollPosition position) {
+        Map<String, ?> keys = position.getKeys();
+        String raw = (position.scrollsForward() ? FORWARD : BACKWARD)
+            + SEPARATOR + keys.get("createdAt")
+            + SEPARATOR + keys.get("id");
+
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    public static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Unexpected cursor layout");
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("createdAt", LocalDateTime.parse(parts[1]));
+            keys.put("id", UUID.fromString(parts[2]));
+
+            return BACKWARD.equals(parts[0])
+                ? ScrollPosition.backward(keys)
+                : ScrollPosition.forward(keys);
+
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("cursor", cursor, "Invalid pagination cursor");
+        }
+    }
+}
@@ -1,124 +1,178 @@
 package com.example.challenge.shared.util;
 
+import com.example.challenge.dto.response.IncidentResponseDto;
 import com.example.challenge.entity.Incident;
 import com.example.challenge.entity.IncidentPriority;
 import com.example.challenge.entity.Status;
+import com.example.challenge.repository.IncidentOrdering;
 import com.example.challenge.repository.IncidentRepository;
+import com.example.challenge.repository.IncidentSpecifications;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 
 public class FilterUtils {
-    
+
+
+    public enum SearchMode {
+        CONTAINS,
+        FULLTEXT,
+        TRIGRAM
+    }
+
 
     public static class IncidentFilters {
         private final Status status;
         private final IncidentPriority priority;
         private final String searchTerm;
-        
+        private final List<String> tags;
+        private final String responsibleEmail;
+        private final LocalDateTime createdFrom;
+        private final LocalDateTime createdTo;
+        private final LocalDateTime updatedFrom;
+        private final LocalDateTime updatedTo;
+        private final SearchMode searchMode;
+
         public IncidentFilters(Status status, IncidentPriority priority, String searchTerm) {
+            this(status, priority, searchTerm, null, null, null, null, null, null, null);
+        }
+
+        public IncidentFilters(Status status, IncidentPriority priority, String searchTerm,
+                               List<String> tags, String responsibleEmail,
+                               LocalDateTime createdFrom, LocalDateTime createdTo,
+                               LocalDateTime updatedFrom, LocalDateTime updatedTo,
+                               SearchMode searchMode) {
             this.status = status;
             this.priority = priority;
             this.searchTerm = searchTerm;
+            this.tags = tags;
+            this.responsibleEmail = responsibleEmail;
+            this.createdFrom = createdFrom;
+            this.createdTo = createdTo;
+            this.updatedFrom = updatedFrom;
+            this.updatedTo = updatedTo;
+            this.searchMode = searchMode != null ? searchMode : SearchMode.CONTAINS;
         }
-        
+
         public Status getStatus() { return status; }
         public IncidentPriority getPriority() { return priority; }
         public String getSearchTerm() { return searchTerm; }
-        
+        public List<String> getTags() { return tags; }
+        public String getResponsibleEmail() { return responsibleEmail; }
+        public LocalDateTime getCreatedFrom() { return createdFrom; }
+        public LocalDateTime getCreatedTo() { return createdTo; }
+        public LocalDateTime getUpdatedFrom() { return updatedFrom; }
+        public LocalDateTime getUpdatedTo() { return updatedTo; }
+        public SearchMode getSearchMode() { return searchMode; }
+
         public boolean hasStatus() { return status != null; }
         public boolean hasPriority() { return priority != null; }
         public boolean hasSearchTerm() { return searchTerm != null && !searchTerm.trim().isEmpty(); }
-        public boolean hasAnyFilter() { return hasStatus() || hasPriority() || hasSearchTerm(); }
+        public boolean hasTags() { return tags != null && !tags.isEmpty(); }
+        public boolean hasResponsibleEmail() { return responsibleEmail != null && !responsibleEmail.trim().isEmpty(); }
+        public boolean hasCreatedRange() { return createdFrom != null || createdTo != null; }
+        public boolean hasUpdatedRange() { return updatedFrom != null || updatedTo != null; }
+        public boolean hasAnyFilter() {
+            return hasStatus() || hasPriority() || hasSearchTerm() || hasTags()
+                || hasResponsibleEmail() || hasCreatedRange() || hasUpdatedRange();
+        }
+    }
+
+    /**
+     * Compila os filtros em uma única Specification; critérios ausentes são ignorados.
+     */
+    public static Specification<Incident> toSpecification(IncidentFilters filters) {
+        return Specification.allOf(
+            IncidentSpecifications.hasStatus(filters.getStatus()),
+            IncidentSpecifications.hasPriority(filters.getPriority()),
+            textSpecification(filters),
+            IncidentSpecifications.hasAnyTag(filters.getTags()),
+            IncidentSpecifications.hasResponsibleEmail(filters.getResponsibleEmail()),
+            IncidentSpecifications.createdBetween(filters.getCreatedFrom(), filters.getCreatedTo()),
+            IncidentSpecifications.updatedBetween(filters.getUpdatedFrom(), filters.getUpdatedTo())
+        );
     }
-    
 
-    @FunctionalInterface
-    public interface RepositoryOperation<T> {
-        Page<T> execute();
+    private static Specification<Incident> textSpecification(IncidentFilters filters) {
+        return switch (filters.getSearchMode()) {
+            case FULLTEXT -> IncidentSpecifications.matchesFullText(filters.getSearchTerm());
+            case TRIGRAM -> IncidentSpecifications.matchesTrigram(filters.getSearchTerm());
+            case CONTAINS -> IncidentSpecifications.matchesText(filters.getSearchTerm());
+        };
     }
-    
+
+    /**
+     * Ordenação por relevância do modo de busca, usada quando a listagem não pede Sort explícito;
+     * null no modo CONTAINS ou sem termo.
+     */
+    public static IncidentOrdering relevance(IncidentFilters filters) {
+        return switch (filters.getSearchMode()) {
+            case FULLTEXT -> IncidentSpecifications.rankedByFullText(filters.getSearchTerm());
+            case TRIGRAM -> IncidentSpecifications.rankedByTrigram(filters.getSearchTerm());
+            case CONTAINS -> null;
+        };
+    }
+
     /**
      * @param repository Repository para executar queries
      * @param filters Filtros encapsulados
+     * @param scope Restrição adicional aplicada pelo serviço (ex.: partição de arquivo), ou null
      * @param pageable Configuração de paginação
-     * @return Page de incidents filtrados
+     * @return Page de incidents filtrados, lida por projeção com um único SELECT (mais o COUNT da paginação)
      */
-    public static Page<Incident> buildIncidentFilter(IncidentRepository repository, 
-                                                   IncidentFilters filters, 
-                                                   Pageable pageable) {
-        
-        if (!filters.hasAnyFilter()) {
-            return repository.findAll(pageable);
-        }
-        
-        if (filters.hasStatus() && filters.hasPriority() && filters.hasSearchTerm()) {
-            return executeWithFallback(
-                () -> repository.findByStatusAndPriorityAndTitleContainingIgnoreCase(
-                    filters.getStatus(), filters.getPriority(), filters.getSearchTerm(), pageable),
-                () -> repository.findByStatusAndPriorityAndDescriptionContainingIgnoreCase(
-                    filters.getStatus(), filters.getPriority(), filters.getSearchTerm(), pageable)
-            );
-        }
-        
-        if (filters.hasStatus() && filters.hasSearchTerm()) {
-            return executeWithFallback(
-                () -> repository.findByStatusAndTitleContainingIgnoreCase(
-                    filters.getStatus(), filters.getSearchTerm(), pageable),
-                () -> repository.findByStatusAndDescriptionContainingIgnoreCase(
-                    filters.getStatus(), filters.getSearchTerm(), pageable)
-            );
-        }
-        
-        if (filters.hasPriority() && filters.hasSearchTerm()) {
-            return executeWithFallback(
-                () -> repository.findByPriorityAndTitleContainingIgnoreCase(
-                    filters.getPriority(), filters.getSearchTerm(), pageable),
-                () -> repository.findByPriorityAndDescriptionContainingIgnoreCase(
-                    filters.getPriority(), filters.getSearchTerm(), pageable)
-            );
-        }
-        
-        if (filters.hasSearchTerm()) {
-            return repository.findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
-                filters.getSearchTerm(), filters.getSearchTerm(), pageable);
-        }
-        
-        if (filters.hasStatus()) {
-            return repository.findByStatus(filters.getStatus(), pageable);
-        }
-        
-        if (filters.hasPriority()) {
-            return repository.findByPriority(filters.getPriority(), pageable);
-        }
-        
-        return repository.findAll(pageable);
+    public static Page<IncidentResponseDto> buildIncidentFilter(IncidentRepository repository,
+                                                              IncidentFilters filters,
+                                                              Specification<Incident> scope,
+                                                              Pageable pageable) {
+
+        return repository.findResponsePage(Specification.allOf(toSpecification(filters), scope),
+                                           relevance(filters), pageable);
     }
-    
-
-    
-    private static Page<Incident> executeWithFallback(RepositoryOperation<Incident> primary, 
-                                                     RepositoryOperation<Incident> fallback) {
-        Page<Incident> primaryResults = primary.execute();
-        
-        if (primaryResults.hasContent()) {
-            return primaryResults;
-        }
-        
-        return fallback.execute();
+
+    /**
+     * Variante sem COUNT de buildIncidentFilter, para clientes que não exibem o total.
+     */
+    public static Slice<IncidentResponseDto> buildIncidentSlice(IncidentRepository repository,
+                                                                IncidentFilters filters,
+                                                                Specification<Incident> scope,
+                                                                Pageable pageable) {
+
+        return repository.findResponseSlice(Specification.allOf(toSpecification(filters), scope),
+                                            relevance(filters), pageable);
     }
-    
+
+
+    public static IncidentFilters normalize(IncidentFilters filters) {
+        return new IncidentFilters(
+            filters.getStatus(),
+            filters.getPriority(),
+            normalizeSearchTerm(filters.getSearchTerm()),
+            TagUtils.normalizeTags(filters.getTags()),
+            normalizeSearchTerm(filters.getResponsibleEmail()),
+            filters.getCreatedFrom(),
+            filters.getCreatedTo(),
+            filters.getUpdatedFrom(),
+            filters.getUpdatedTo(),
+            filters.getSearchMode()
+        );
+    }
+
 
     public static String normalizeSearchTerm(String searchTerm) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return null;
         }
-        
+
         return searchTerm.trim();
     }
-    
+
 
     public static boolean areFiltersValid(IncidentFilters filters) {
         return filters != null && filters.hasAnyFilter();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.example.challenge.shared.util;
+
+import com.example.challenge.dto.response.IncidentResponseDto;
+import com.example.challenge.shared.dto.CursorPageResponse;
+import com.example.challenge.shared.dto.PageResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Validadores HTTP (ETag e Last-Modified) derivados do updatedAt dos incidents
+ */
+public class HttpCacheUtils {
+    
+
+    public static String incidentETag(UUID id, LocalDateTime updatedAt) {
+        return "\"" + id + "-" + Long.toHexString(toEpochMicros(updatedAt)) + "\"";
+    }
+    
+
+    public static String commentsETag(UUID incidentId, LocalDateTime incidentUpdatedAt) {
+        return "\"" + incidentId + "-comments-" + Long.toHexString(toEpochMicros(incidentUpdatedAt)) + "\"";
+    }
+    
+
+    /**
+     * Derivada da página já lida (ids e updatedAt das linhas, mais total e hasNext), sem consulta extra.
+     * A query string entra no hash porque página, ordenação e filtros mudam a representação.
+     */
+    public static String listETag(String queryString, PageResponse<IncidentResponseDto> page) {
+        return listETag(queryString, page.getContent(), page.getTotalElements() + "|" + page.isHasNext());
+    }
+    
+
+    public static String listETag(String queryString, CursorPageResponse<IncidentResponseDto> page) {
+        return listETag(queryString, page.getContent(), page.getNextCursor() + "|" + page.getPrevCursor());
+    }
+    
+
+    private static String listETag(String queryString, List<IncidentResponseDto> rows, String navigation) {
+        StringBuilder raw = new StringBuilder(queryString == null ? "" : queryString)
+            .append('|').append(navigation);
+        for (IncidentResponseDto row : rows) {
+            raw.append('|').append(row.getId()).append('-').append(toEpochMicros(row.getUpdatedAt()));
+        }
+        return "\"" + UUID.nameUUIDFromBytes(raw.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+    
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), dateTime);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.challenge.shared.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Tokens opacos (refresh tokens, tickets do stream de eventos): 32 bytes aleatórios em Base64 URL
+ * para o cliente e só o SHA-256 em hexadecimal no banco.
+ */
+public class OpaqueTokenUtils {
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+
+    public static String generate() {
+        byte[] raw = new byte[32];
+        SECURE_RANDOM.nextBytes(raw);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+}
@@ -16,8 +16,10 @@ public class TagUtils {
         
         List<String> normalizedTags = tags.stream()
             .filter(tag -> tag != null && !tag.trim().isEmpty()) // Remove nulos e vazios
+            .map(tag -> tag.replaceAll("\\p{Cntrl}", ""))        // Remove caracteres de controle
             .map(String::trim)                                    // Aplica trim
             .map(String::toLowerCase)                            // Converte para minúsculas
+            .filter(tag -> !tag.isEmpty())                       // Descarta tags que ficaram vazias
             .distinct()                                          // Remove duplicatas
             .sorted()                                            // Ordena alfabeticamente
             .collect(Collectors.toList());
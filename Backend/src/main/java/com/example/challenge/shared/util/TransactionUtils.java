@@ -0,0 +1,27 @@
+package com.example.challenge.shared.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utilitários para adiar efeitos em memória até o commit da transação corrente
+ */
+public class TransactionUtils {
+    
+
+    /**
+     * Executa a ação após o commit; sem transação ativa, executa imediatamente.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,19 @@
+-- Indexes aligned with the filters in FilterUtils and the keyset sort (created_at DESC, id DESC).
+-- Equality columns come first so the planner reads rows already ordered and stops at the LIMIT.
+CREATE INDEX idx_incidents_created ON incidents (created_at DESC, id DESC);
+CREATE INDEX idx_incidents_status_created ON incidents (status, created_at DESC, id DESC);
+CREATE INDEX idx_incidents_status_priority_created ON incidents (status, priority, created_at DESC, id DESC);
+CREATE INDEX idx_incidents_priority_created ON incidents (priority, created_at DESC, id DESC);
+
+-- updatedBetween filter and the MAX(updated_at) used by list ETags
+CREATE INDEX idx_incidents_updated ON incidents (updated_at);
+
+-- hasResponsibleEmail compares lower(responsibleEmail); the expression must match
+CREATE INDEX idx_incidents_responsible_email ON incidents (lower(responsibleEmail));
+
+-- Tag loading by incident and the hasAnyTag semi-join by tag value
+CREATE INDEX idx_incident_tags_incident ON incident_tags (incident_id);
+CREATE INDEX idx_incident_tags_tag ON incident_tags (tag, incident_id);
+
+-- findByIncidentIdOrderByCreatedAtAsc and countByIncidentId
+CREATE INDEX idx_comments_incident_created ON comments (incidentId, createdAt);
@@ -0,0 +1,13 @@
+-- Partial indexes over the non-terminal statuses (Status.isActive). Almost all rows end up
+-- RESOLVED/CANCELLED, but dashboards only read OPEN/IN_PROGRESS, so these stay small and cache-resident
+-- no matter how much history accumulates. The predicate must match IncidentSpecifications.isActive,
+-- which renders the same values as SQL literals.
+CREATE INDEX idx_incidents_active_created ON incidents (created_at DESC, id DESC)
+    WHERE status IN ('OPEN', 'IN_PROGRESS');
+
+CREATE INDEX idx_incidents_active_priority_created ON incidents (priority, created_at DESC, id DESC)
+    WHERE status IN ('OPEN', 'IN_PROGRESS');
+
+-- COUNT/MAX(updated_at) of the active list ETag without touching history
+CREATE INDEX idx_incidents_active_updated ON incidents (updated_at)
+    WHERE status IN ('OPEN', 'IN_PROGRESS');
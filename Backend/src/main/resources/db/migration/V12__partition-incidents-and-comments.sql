@@ -0,0 +1,103 @@
+-- Partitioning of incidents and comments for archival.
+--   incidents                 PARTITION BY LIST (archived)
+--     incidents_live          archived = false, the hot set every default query reads
+--     incidents_archive       archived = true, PARTITION BY RANGE (created_at), one partition per year
+-- IncidentArchiveService flips archived on closed incidents older than incidents.archive.after, and
+-- PostgreSQL moves the rows into the archive. Queries that carry "NOT archived" prune the archive at plan time.
+-- Years outside the range below fall into the DEFAULT partition until a later migration adds them.
+
+-- A partitioned primary key must contain the partition keys, so incidents.id alone can no longer
+-- back a foreign key. Nothing cascades from incidents to incident_tags anymore: removing an incident
+-- through JPA deletes its tag collection, and IncidentArchiveService cleans up rows left by any other delete.
+ALTER TABLE incident_tags DROP CONSTRAINT IF EXISTS incident_tags_incident_id_fkey;
+
+ALTER TABLE incidents RENAME TO incidents_legacy;
+ALTER TABLE incidents_legacy RENAME CONSTRAINT incidents_pkey TO incidents_legacy_pkey;
+
+CREATE TABLE incidents (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    title VARCHAR(120) NOT NULL,
+    description VARCHAR(5000),
+    priority VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    responsibleEmail VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (id, archived, created_at)
+) PARTITION BY LIST (archived);
+
+CREATE TABLE incidents_live PARTITION OF incidents FOR VALUES IN (FALSE);
+CREATE TABLE incidents_archive PARTITION OF incidents FOR VALUES IN (TRUE) PARTITION BY RANGE (created_at);
+CREATE TABLE incidents_archive_default PARTITION OF incidents_archive DEFAULT;
+
+ALTER TABLE comments RENAME TO comments_legacy;
+ALTER TABLE comments_legacy RENAME CONSTRAINT comments_pkey TO comments_legacy_pkey;
+
+CREATE TABLE comments (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    incidentId UUID NOT NULL,
+    author VARCHAR(255) NOT NULL,
+    message VARCHAR(2000) NOT NULL,
+    createdAt TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (id, archived, createdAt)
+) PARTITION BY LIST (archived);
+
+CREATE TABLE comments_live PARTITION OF comments FOR VALUES IN (FALSE);
+CREATE TABLE comments_archive PARTITION OF comments FOR VALUES IN (TRUE) PARTITION BY RANGE (createdAt);
+CREATE TABLE comments_archive_default PARTITION OF comments_archive DEFAULT;
+
+DO $$
+BEGIN
+    FOR y IN 2020..2035 LOOP
+        EXECUTE format('CREATE TABLE incidents_archive_%s PARTITION OF incidents_archive FOR VALUES FROM (%L) TO (%L)',
+                       y, make_date(y, 1, 1), make_date(y + 1, 1, 1));
+        EXECUTE format('CREATE TABLE comments_archive_%s PARTITION OF comments_archive FOR VALUES FROM (%L) TO (%L)',
+                       y, make_date(y, 1, 1), make_date(y + 1, 1, 1));
+    END LOOP;
+END $$;
+
+INSERT INTO incidents (id, title, description, priority, status, responsibleEmail, created_at, updated_at)
+SELECT id, title, description, priority, status, responsibleEmail, created_at, updated_at FROM incidents_legacy;
+
+INSERT INTO comments (id, incidentId, author, message, createdAt)
+SELECT id, incidentId, author, message, createdAt FROM comments_legacy;
+
+DROP TABLE incidents_legacy;
+DROP TABLE comments_legacy;
+
+-- Indexes from V6, V7, V10 and V11, now declared on the partitioned parents and propagated to every partition.
+-- The full-text expression must stay identical to SearchFunctionsContributor.DOCUMENT.
+CREATE INDEX idx_incidents_fulltext ON incidents USING GIN (
+    (setweight(to_tsvector('portuguese', coalesce(title, '')), 'A') ||
+     setweight(to_tsvector('portuguese', coalesce(description, '')), 'B'))
+);
+-- Trigram indexes only where V7 managed to install pg_trgm
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') THEN
+        CREATE INDEX idx_incidents_title_trgm ON incidents USING GIN (title gin_trgm_ops);
+        CREATE INDEX idx_incidents_description_trgm ON incidents USING GIN (description gin_trgm_ops);
+    END IF;
+END $$;
+
+CREATE INDEX idx_incidents_created ON incidents (created_at DESC, id DESC);
+CREATE INDEX idx_incidents_status_created ON incidents (status, created_at DESC, id DESC);
+CREATE INDEX idx_incidents_status_priority_created ON incidents (status, priority, created_at DESC, id DESC);
+CREATE INDEX idx_incidents_priority_created ON incidents (priority, created_at DESC, id DESC);
+CREATE INDEX idx_incidents_updated ON incidents (updated_at);
+CREATE INDEX idx_incidents_responsible_email ON incidents (lower(responsibleEmail));
+
+CREATE INDEX idx_incidents_active_created ON incidents (created_at DESC, id DESC)
+    WHERE status IN ('OPEN', 'IN_PROGRESS');
+CREATE INDEX idx_incidents_active_priority_created ON incidents (priority, created_at DESC, id DESC)
+    WHERE status IN ('OPEN', 'IN_PROGRESS');
+CREATE INDEX idx_incidents_active_updated ON incidents (updated_at)
+    WHERE status IN ('OPEN', 'IN_PROGRESS');
+
+-- Archival job candidates: closed incidents in the live partition, oldest first
+CREATE INDEX idx_incidents_archivable ON incidents_live (created_at)
+    WHERE status IN ('RESOLVED', 'CANCELLED');
+
+CREATE INDEX idx_comments_incident_created ON comments (incidentId, createdAt);
@@ -0,0 +1,9 @@
+-- Entrega confiável do outbox: o relay reivindica as linhas pendentes com FOR UPDATE SKIP LOCKED,
+-- publica os ids via NOTIFY e grava processed_at na mesma transação. O purge só apaga linhas processadas.
+ALTER TABLE outbox_events ADD COLUMN processed_at TIMESTAMP;
+
+-- Linhas anteriores já foram difundidas pelo relay por cursor
+UPDATE outbox_events SET processed_at = created_at;
+
+CREATE INDEX idx_outbox_events_pending ON outbox_events (id) WHERE processed_at IS NULL;
+CREATE INDEX idx_outbox_events_processed_at ON outbox_events (processed_at) WHERE processed_at IS NOT NULL;
@@ -0,0 +1,11 @@
+-- Tickets de uso único para abrir o stream SSE pelo EventSource do navegador, que não envia cabeçalho
+-- Authorization. Só o SHA-256 é gravado; o uso apaga a linha, então vale em qualquer instância uma única vez.
+CREATE TABLE event_stream_tickets (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    ticket_hash VARCHAR(64) NOT NULL UNIQUE,
+    user_id UUID NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_event_stream_tickets_expires ON event_stream_tickets (expires_at);
@@ -0,0 +1,7 @@
+-- Full-text search over title (weight A) and description (weight B).
+-- The expression must stay identical to SearchFunctionsContributor.DOCUMENT
+-- so the planner can match it against this index.
+CREATE INDEX idx_incidents_fulltext ON incidents USING GIN (
+    (setweight(to_tsvector('portuguese', coalesce(title, '')), 'A') ||
+     setweight(to_tsvector('portuguese', coalesce(description, '')), 'B'))
+);
@@ -0,0 +1,20 @@
+-- Trigram indexes for substring (ILIKE '%x%') and similarity search on title/description.
+-- pg_trgm is optional: when the server does not ship it or the application role may not create it,
+-- the migration still succeeds without the indexes and searchMode=TRIGRAM is rejected by the API.
+-- Installing the extension later requires creating idx_incidents_title_trgm/idx_incidents_description_trgm by hand.
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')
+       AND EXISTS (SELECT 1 FROM pg_available_extensions WHERE name = 'pg_trgm') THEN
+        BEGIN
+            CREATE EXTENSION pg_trgm;
+        EXCEPTION WHEN insufficient_privilege THEN
+            RAISE NOTICE 'pg_trgm is available but % may not create it; trigram search disabled', current_user;
+        END;
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') THEN
+        CREATE INDEX idx_incidents_title_trgm ON incidents USING GIN (title gin_trgm_ops);
+        CREATE INDEX idx_incidents_description_trgm ON incidents USING GIN (description gin_trgm_ops);
+    END IF;
+END $$;
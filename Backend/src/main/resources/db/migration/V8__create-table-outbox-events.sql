@@ -0,0 +1,8 @@
+-- Outbox de eventos de incidents, gravado na mesma transação da mudança e drenado pelo relay
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    incident_id UUID,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
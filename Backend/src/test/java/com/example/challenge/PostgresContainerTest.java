@@ -0,0 +1,22 @@
+package com.example.challenge;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base para testes que dependem do PostgreSQL real (migrations, índices, planos).
+ * Os testes são ignorados quando não há Docker disponível. O contexto é descartado ao
+ * fim de cada classe porque o container é reiniciado (em outra porta) para a próxima.
+ */
+@DirtiesContext
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresContainerTest {
+
+	@Container
+	@ServiceConnection
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+
+}
@@ -0,0 +1,33 @@
+package com.example.challenge;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Apoio aos testes de plano: EXPLAIN em texto e os nomes dos índices de cada partição,
+ * que o PostgreSQL gera a partir do índice declarado na tabela particionada.
+ */
+public final class QueryPlans {
+
+	private QueryPlans() {}
+
+	public static String explain(JdbcTemplate jdbcTemplate, String sql) {
+		return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+	}
+
+	/**
+	 * O índice informado mais todos os índices de partição ligados a ele, em qualquer nível.
+	 */
+	public static String[] indexFamily(JdbcTemplate jdbcTemplate, String indexName) {
+		List<String> names = jdbcTemplate.queryForList("""
+			WITH RECURSIVE family(oid) AS (
+			    SELECT ?::regclass::oid
+			    UNION ALL
+			    SELECT i.inhrelid FROM pg_inherits i JOIN family f ON i.inhparent = f.oid
+			)
+			SELECT c.relname FROM family JOIN pg_class c ON c.oid = family.oid
+			""", String.class, indexName);
+		return names.toArray(String[]::new);
+	}
+}
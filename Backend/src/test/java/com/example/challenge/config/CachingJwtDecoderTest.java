@@ -0,0 +1,66 @@
+package com.example.challenge.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+class CachingJwtDecoderTest {
+
+	private final JwtDecoder delegate = mock(JwtDecoder.class);
+	private final CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(10));
+
+	@Test
+	void repeatedTokenIsVerifiedOnce() {
+		Jwt jwt = jwt(Instant.now().plusSeconds(300));
+		when(delegate.decode("token-a")).thenReturn(jwt);
+
+		assertThat(decoder.decode("token-a")).isSameAs(jwt);
+		assertThat(decoder.decode("token-a")).isSameAs(jwt);
+
+		verify(delegate, times(1)).decode("token-a");
+		assertThat(decoder.getHits()).isEqualTo(1);
+		assertThat(decoder.getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	void expiredTokenIsNotServedFromCache() {
+		Jwt jwt = jwt(Instant.now().minusSeconds(1));
+		when(delegate.decode("token-b")).thenReturn(jwt);
+
+		decoder.decode("token-b");
+		decoder.decode("token-b");
+
+		verify(delegate, times(2)).decode("token-b");
+	}
+
+	@Test
+	void invalidTokenIsNeverCached() {
+		when(delegate.decode("bad")).thenThrow(new BadJwtException("invalid signature"));
+
+		assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+		assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+
+		verify(delegate, times(2)).decode("bad");
+		assertThat(decoder.getCachedTokens()).isZero();
+	}
+
+	private static Jwt jwt(Instant expiresAt) {
+		return Jwt.withTokenValue("t")
+			.header("alg", "RS256")
+			.subject("ana")
+			.issuedAt(expiresAt.minusSeconds(600))
+			.expiresAt(expiresAt)
+			.build();
+	}
+}
@@ -0,0 +1,66 @@
+package com.example.challenge.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+class JwtKeyRingTest {
+
+	@Test
+	void tokenSignedBeforeRotationStillVerifies() {
+		JwtKeyRing keyRing = new JwtKeyRing(SignatureAlgorithm.ES256, Duration.ofMinutes(5));
+		String before = encode(keyRing);
+		String oldKid = keyRing.getCurrentKeyId();
+
+		keyRing.rotate();
+		String after = encode(keyRing);
+
+		Jwt decodedBefore = keyRing.newDecoder().decode(before);
+		Jwt decodedAfter = keyRing.newDecoder().decode(after);
+		assertThat(decodedBefore.getHeaders()).containsEntry("kid", oldKid).containsEntry("alg", "ES256");
+		assertThat(decodedAfter.getHeaders().get("kid")).isEqualTo(keyRing.getCurrentKeyId()).isNotEqualTo(oldKid);
+		assertThat(keyRing.publicKeys().getKeys()).hasSize(2).noneMatch(jwk -> jwk.isPrivate());
+	}
+
+	@Test
+	void keysRetiredLongerThanRetentionAreDropped() {
+		JwtKeyRing keyRing = new JwtKeyRing(SignatureAlgorithm.ES256, Duration.ZERO);
+		String token = encode(keyRing);
+
+		keyRing.rotate();
+		keyRing.rotate();
+
+		assertThat(keyRing.publicKeys().getKeys()).hasSize(2);
+		keyRing.rotate();
+		assertThatThrownBy(() -> keyRing.newDecoder().decode(token)).isInstanceOf(JwtException.class);
+	}
+
+	@Test
+	void rsaRemainsAvailable() {
+		JwtKeyRing keyRing = new JwtKeyRing(SignatureAlgorithm.RS256, Duration.ofMinutes(5));
+
+		assertThat(keyRing.newDecoder().decode(encode(keyRing)).getHeaders()).containsEntry("alg", "RS256");
+	}
+
+	private static String encode(JwtKeyRing keyRing) {
+		Instant now = Instant.now();
+		JwtClaimsSet claims = JwtClaimsSet.builder()
+			.subject("ana")
+			.issuedAt(now)
+			.expiresAt(now.plusSeconds(300))
+			.build();
+		return new NimbusJwtEncoder(keyRing.signingKeys())
+			.encode(JwtEncoderParameters.from(keyRing.signingHeader(), claims))
+			.getTokenValue();
+	}
+}
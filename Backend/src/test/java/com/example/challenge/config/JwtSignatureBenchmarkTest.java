@@ -0,0 +1,85 @@
+package com.example.challenge.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+/**
+ * Custo de assinar e verificar um access token com RS256 e ES256, pelo mesmo encoder/decoder da aplicação.
+ * Base da escolha de RS256 como padrão: a verificação roda em toda requisição e a assinatura só no login/refresh.
+ * Não há JMH no build, então é um laço aquecido; só roda com
+ * {@code mvn test -Dtest=JwtSignatureBenchmarkTest -Djwt.benchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "jwt.benchmark", matches = "true")
+class JwtSignatureBenchmarkTest {
+
+	private static final int WARMUP_OPS = 2000;
+	private static final int MEASURED_OPS = 5000;
+
+	@Test
+	void rsaVerifiesFasterThanEcdsa() {
+		Result rsa = measure(SignatureAlgorithm.RS256);
+		Result ecdsa = measure(SignatureAlgorithm.ES256);
+
+		System.out.println(rsa);
+		System.out.println(ecdsa);
+		assertThat(rsa.decodeMsPerOp()).isLessThan(ecdsa.decodeMsPerOp());
+	}
+
+	private static Result measure(SignatureAlgorithm algorithm) {
+		JwtKeyRing keyRing = new JwtKeyRing(algorithm, Duration.ofMinutes(5));
+		JwtEncoder encoder = new NimbusJwtEncoder(keyRing.signingKeys());
+		JwtDecoder decoder = keyRing.newDecoder();
+
+		run(keyRing, encoder, decoder, WARMUP_OPS);
+		long encodeNanos = 0;
+		long decodeNanos = 0;
+		for (int i = 0; i < MEASURED_OPS; i++) {
+			long start = System.nanoTime();
+			String token = encode(keyRing, encoder);
+			long encoded = System.nanoTime();
+			decoder.decode(token);
+			long decoded = System.nanoTime();
+			encodeNanos += encoded - start;
+			decodeNanos += decoded - encoded;
+		}
+		return new Result(algorithm, encodeNanos / 1e6 / MEASURED_OPS, decodeNanos / 1e6 / MEASURED_OPS);
+	}
+
+	private static void run(JwtKeyRing keyRing, JwtEncoder encoder, JwtDecoder decoder, int ops) {
+		for (int i = 0; i < ops; i++) {
+			decoder.decode(encode(keyRing, encoder));
+		}
+	}
+
+	private static String encode(JwtKeyRing keyRing, JwtEncoder encoder) {
+		Instant now = Instant.now();
+		JwtClaimsSet claims = JwtClaimsSet.builder()
+			.issuer("mybackend")
+			.subject("ana")
+			.issuedAt(now)
+			.expiresAt(now.plusSeconds(300))
+			.claim("scope", "ROLE_ADMIN")
+			.build();
+		return encoder.encode(JwtEncoderParameters.from(keyRing.signingHeader(), claims)).getTokenValue();
+	}
+
+	private record Result(SignatureAlgorithm algorithm, double encodeMsPerOp, double decodeMsPerOp) {
+
+		@Override
+		public String toString() {
+			return String.format("%s  encode %.3f ms/op  decode %.3f ms/op (%d ops)",
+				algorithm.getName(), encodeMsPerOp, decodeMsPerOp, MEASURED_OPS);
+		}
+	}
+}
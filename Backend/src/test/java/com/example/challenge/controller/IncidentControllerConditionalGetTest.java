@@ -0,0 +1,117 @@
+package com.example.challenge.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.challenge.dto.response.IncidentResponseDto;
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+import com.example.challenge.service.IncidentBulkService;
+import com.example.challenge.service.IncidentExportService;
+import com.example.challenge.service.IncidentService;
+import com.example.challenge.shared.dto.CursorPageResponse;
+import com.example.challenge.shared.dto.PageResponse;
+import com.example.challenge.shared.util.FilterUtils;
+import com.example.challenge.shared.util.HttpCacheUtils;
+
+class IncidentControllerConditionalGetTest {
+
+	private final UUID id = UUID.randomUUID();
+	private final LocalDateTime updatedAt = LocalDateTime.of(2025, 3, 10, 14, 30, 15, 123456000);
+
+	private IncidentService incidentService;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		incidentService = mock(IncidentService.class);
+		mockMvc = MockMvcBuilders.standaloneSetup(new IncidentController(incidentService,
+			mock(IncidentExportService.class), mock(IncidentBulkService.class))).build();
+
+		when(incidentService.findById(id)).thenReturn(incident(updatedAt));
+	}
+
+	@Test
+	void firstReadReturnsBodyWithValidators() throws Exception {
+		mockMvc.perform(get("/api/incidents/{id}", id))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, HttpCacheUtils.incidentETag(id, updatedAt)))
+			.andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+	}
+
+	@Test
+	void matchingETagAnswersNotModifiedFromTheCachedIncidentAlone() throws Exception {
+		mockMvc.perform(get("/api/incidents/{id}", id)
+				.header(HttpHeaders.IF_NONE_MATCH, HttpCacheUtils.incidentETag(id, updatedAt)))
+			.andExpect(status().isNotModified());
+
+		verify(incidentService).findById(id);
+		verifyNoMoreInteractions(incidentService);
+	}
+
+	@Test
+	void staleETagReturnsFreshBody() throws Exception {
+		mockMvc.perform(get("/api/incidents/{id}", id)
+				.header(HttpHeaders.IF_NONE_MATCH, HttpCacheUtils.incidentETag(id, updatedAt.minusSeconds(5))))
+			.andExpect(status().isOk());
+	}
+
+	@Test
+	void listETagComesFromReturnedRowsWithoutExtraQuery() throws Exception {
+		listReturns(updatedAt);
+		String eTag = mockMvc.perform(get("/api/incidents").param("status", "OPEN"))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/api/incidents").param("status", "OPEN").header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isNotModified());
+
+		listReturns(updatedAt.plusSeconds(1));
+		mockMvc.perform(get("/api/incidents").param("status", "OPEN").header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isOk());
+	}
+
+	@Test
+	void cursorPageSizeIsCapped() throws Exception {
+		when(incidentService.findAllByCursor(any(FilterUtils.IncidentFilters.class), isNull(), eq(100)))
+			.thenReturn(new CursorPageResponse<>(List.of(), 100, null, null));
+
+		mockMvc.perform(get("/api/incidents").param("pagination", "cursor").param("size", "1000000"))
+			.andExpect(status().isOk());
+
+		verify(incidentService).findAllByCursor(any(FilterUtils.IncidentFilters.class), isNull(), eq(100));
+	}
+
+	private void listReturns(LocalDateTime rowUpdatedAt) {
+		Pageable pageable = PageRequest.of(0, 10);
+		when(incidentService.findAll(any(FilterUtils.IncidentFilters.class), any(Pageable.class), anyBoolean()))
+			.thenReturn(PageResponse.of(new PageImpl<>(List.of(incident(rowUpdatedAt)), pageable, 1)));
+	}
+
+	private IncidentResponseDto incident(LocalDateTime rowUpdatedAt) {
+		return new IncidentResponseDto(id, "Falha no gateway", null, IncidentPriority.HIGH, Status.OPEN,
+			"ops@empresa.com", null, updatedAt, rowUpdatedAt);
+	}
+}
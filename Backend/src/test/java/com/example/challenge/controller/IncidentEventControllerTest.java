@@ -0,0 +1,56 @@
+package com.example.challenge.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.challenge.service.EventStreamTicketService;
+import com.example.challenge.service.IncidentEventStream;
+
+class IncidentEventControllerTest {
+
+	private IncidentEventStream eventStream;
+	private EventStreamTicketService ticketService;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		eventStream = mock(IncidentEventStream.class);
+		ticketService = mock(EventStreamTicketService.class);
+		mockMvc = MockMvcBuilders.standaloneSetup(new IncidentEventController(eventStream, ticketService))
+			.setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+			.build();
+
+		when(eventStream.subscribe(any())).thenReturn(new SseEmitter());
+	}
+
+	@Test
+	void browserWithoutBearerOpensTheStreamWithATicket() throws Exception {
+		when(ticketService.consume("ok")).thenReturn(true);
+
+		mockMvc.perform(get("/api/incidents/events").param("ticket", "ok").accept(MediaType.TEXT_EVENT_STREAM))
+			.andExpect(status().isOk());
+	}
+
+	@Test
+	void missingOrUsedTicketIsRejectedBeforeSubscribing() throws Exception {
+		mockMvc.perform(get("/api/incidents/events").param("ticket", "used").accept(MediaType.TEXT_EVENT_STREAM))
+			.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/api/incidents/events").accept(MediaType.TEXT_EVENT_STREAM))
+			.andExpect(status().isUnauthorized());
+
+		verify(eventStream, never()).subscribe(any());
+	}
+}
@@ -0,0 +1,49 @@
+package com.example.challenge.controller;
+
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.challenge.config.JwtKeyRing;
+import com.example.challenge.service.LoginService;
+import com.example.challenge.service.RefreshTokenService;
+
+class TokenControllerJwksTest {
+
+	private JwtKeyRing keyRing;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		keyRing = new JwtKeyRing(SignatureAlgorithm.RS256, Duration.ofMinutes(5));
+		mockMvc = MockMvcBuilders.standaloneSetup(new TokenController(mock(JwtEncoder.class), keyRing,
+			mock(LoginService.class), mock(RefreshTokenService.class), Duration.ofMinutes(5))).build();
+	}
+
+	@Test
+	void publishesCurrentAndRetiredPublicKeysOnly() throws Exception {
+		String retiredKid = keyRing.getCurrentKeyId();
+		keyRing.rotate();
+
+		mockMvc.perform(get("/.well-known/jwks.json"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"))
+			.andExpect(jsonPath("$.keys.length()").value(2))
+			.andExpect(jsonPath("$.keys[0].kid").value(keyRing.getCurrentKeyId()))
+			.andExpect(jsonPath("$.keys[1].kid").value(retiredKid))
+			.andExpect(jsonPath("$.keys[0].alg").value("RS256"))
+			.andExpect(jsonPath("$.keys[0].d").doesNotExist());
+	}
+}
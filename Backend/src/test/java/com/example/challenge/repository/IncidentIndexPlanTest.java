@@ -0,0 +1,145 @@
+package com.example.challenge.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.challenge.PostgresContainerTest;
+import com.example.challenge.QueryPlans;
+
+/**
+ * Garante pelo EXPLAIN que as consultas de listagem, tags e comentários usam os índices da V10
+ * (recriados nas tabelas particionadas pela V12) em vez de varrer as tabelas inteiras.
+ * As consultas de incidents levam NOT archived, como as listagens padrão da aplicação; os filtros de status
+ * usam status encerrados porque OPEN e IN_PROGRESS já caem nos índices parciais da V11.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IncidentIndexPlanTest extends PostgresContainerTest {
+
+	/** Sort completo; o Incremental Sort sobre created_at já ordenado pelo índice é aceito. */
+	private static final String FULL_SORT = "(?m)^\\s*(->  )?Sort  \\(cost";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	void seed() {
+		jdbcTemplate.execute("""
+			INSERT INTO incidents (title, description, priority, status, responsibleEmail, created_at, updated_at)
+			SELECT 'Incident ' || n, 'Descrição ' || n,
+			       (ARRAY['LOW','MEDIUM','HIGH'])[1 + n % 3],
+			       (ARRAY['OPEN','IN_PROGRESS','RESOLVED','CANCELLED'])[1 + n % 4],
+			       'user' || (n % 500) || '@empresa.com',
+			       now() - n * interval '1 minute', now() - n * interval '1 minute'
+			FROM generate_series(1, 20000) AS n
+			""");
+		jdbcTemplate.execute("""
+			INSERT INTO incident_tags (incident_id, tag)
+			SELECT id, 'tag-' || (abs(hashtext(id::text)) % 200) FROM incidents
+			""");
+		jdbcTemplate.execute("""
+			INSERT INTO comments (incidentId, author, message, createdAt)
+			SELECT id, 'ana', 'Comentário', created_at + interval '1 second' * c
+			FROM incidents CROSS JOIN generate_series(1, 3) AS c
+			""");
+		jdbcTemplate.execute("ANALYZE incidents");
+		jdbcTemplate.execute("ANALYZE incident_tags");
+		jdbcTemplate.execute("ANALYZE comments");
+	}
+
+	@Test
+	void statusAndPriorityListUsesCompositeIndex() {
+		String plan = explain("""
+			SELECT id FROM incidents WHERE NOT archived AND status = 'RESOLVED' AND priority = 'HIGH'
+			ORDER BY created_at DESC, id DESC LIMIT 20
+			""");
+
+		assertThat(plan).containsAnyOf(closedStatusIndexes("idx_incidents_status_priority_created"))
+			.doesNotContain("Seq Scan").doesNotContainPattern(FULL_SORT);
+	}
+
+	@Test
+	void statusListUsesStatusIndex() {
+		String plan = explain("""
+			SELECT id FROM incidents WHERE NOT archived AND status = 'CANCELLED'
+			ORDER BY created_at DESC, id DESC LIMIT 20
+			""");
+
+		assertThat(plan).containsAnyOf(closedStatusIndexes("idx_incidents_status_created"))
+			.doesNotContain("Seq Scan").doesNotContainPattern(FULL_SORT);
+	}
+
+	@Test
+	void unfilteredKeysetPageUsesCreatedIndex() {
+		String plan = explain("""
+			SELECT id FROM incidents
+			WHERE NOT archived AND (created_at, id) < (now() - interval '100 minutes', 'ffffffff-ffff-ffff-ffff-ffffffffffff'::uuid)
+			ORDER BY created_at DESC, id DESC LIMIT 20
+			""");
+
+		assertThat(plan).containsAnyOf(indexFamily("idx_incidents_created")).doesNotContain("Seq Scan");
+	}
+
+	@Test
+	void responsibleEmailFilterUsesExpressionIndex() {
+		String plan = explain("SELECT id FROM incidents WHERE NOT archived AND lower(responsibleEmail) = 'user7@empresa.com'");
+
+		assertThat(plan).containsAnyOf(indexFamily("idx_incidents_responsible_email")).doesNotContain("Seq Scan");
+	}
+
+	@Test
+	void tagLoadingUsesIncidentIndex() {
+		String plan = explain("""
+			SELECT tag FROM incident_tags
+			WHERE incident_id = (SELECT id FROM incidents WHERE NOT archived ORDER BY created_at DESC, id DESC LIMIT 1)
+			""");
+
+		assertThat(plan).contains("idx_incident_tags_incident").doesNotContain("Seq Scan on incident_tags");
+	}
+
+	@Test
+	void tagFilterUsesTagIndex() {
+		String plan = explain("SELECT incident_id FROM incident_tags WHERE tag IN ('tag-1', 'tag-2')");
+
+		assertThat(plan).contains("idx_incident_tags_tag").doesNotContain("Seq Scan");
+	}
+
+	@Test
+	void commentsByIncidentUseCompositeIndex() {
+		String plan = explain("""
+			SELECT id FROM comments
+			WHERE incidentId = (SELECT id FROM incidents WHERE NOT archived ORDER BY created_at DESC, id DESC LIMIT 1)
+			ORDER BY createdAt ASC
+			""");
+
+		assertThat(plan).containsAnyOf(indexFamily("idx_comments_incident_created"))
+			.doesNotContain("Seq Scan on comments_live");
+	}
+
+	private String explain(String sql) {
+		return QueryPlans.explain(jdbcTemplate, sql);
+	}
+
+	private String[] indexFamily(String indexName) {
+		return QueryPlans.indexFamily(jdbcTemplate, indexName);
+	}
+
+	/**
+	 * Status encerrados também estão no parcial idx_incidents_archivable da V12 (created_at),
+	 * que o planejador pode preferir para páginas curtas.
+	 */
+	private String[] closedStatusIndexes(String indexName) {
+		return Stream.of(indexName, "idx_incidents_archivable")
+			.flatMap(name -> Arrays.stream(indexFamily(name)))
+			.toArray(String[]::new);
+	}
+}
@@ -0,0 +1,144 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.challenge.PostgresContainerTest;
+import com.example.challenge.QueryPlans;
+import com.example.challenge.dto.response.IncidentResponseDto;
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+import com.example.challenge.shared.dto.CursorPageResponse;
+import com.example.challenge.shared.exception.ValidationException;
+import com.example.challenge.shared.util.FilterUtils;
+
+/**
+ * Visão de incidents ativos sobre uma base em que 95% das linhas já estão encerradas:
+ * as consultas devem cair nos índices parciais da V11, inclusive com plano genérico.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ActiveIncidentsPathTest extends PostgresContainerTest {
+
+	private static final String ACTIVE_PAGE = """
+		SELECT id FROM incidents WHERE status IN ('OPEN', 'IN_PROGRESS') AND NOT archived AND priority = %s
+		ORDER BY created_at DESC, id DESC LIMIT 20
+		""";
+
+	@Autowired
+	private IncidentService incidentService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	void seed() {
+		jdbcTemplate.execute("""
+			INSERT INTO incidents (title, description, priority, status, responsibleEmail, created_at, updated_at)
+			SELECT 'Incident ' || n, 'Descrição ' || n,
+			       (ARRAY['LOW','MEDIUM','HIGH'])[1 + n % 3],
+			       CASE WHEN n % 40 = 0 THEN 'OPEN'
+			            WHEN n % 40 = 1 THEN 'IN_PROGRESS'
+			            WHEN n % 2 = 0 THEN 'RESOLVED'
+			            ELSE 'CANCELLED' END,
+			       'ops@empresa.com',
+			       now() - n * interval '1 minute', now() - n * interval '1 minute'
+			FROM generate_series(1, 40000) AS n
+			""");
+		jdbcTemplate.execute("ANALYZE incidents");
+	}
+
+	@Test
+	void activeKeysetPageUsesPartialIndex() {
+		String plan = explain("""
+			SELECT id FROM incidents WHERE status IN ('OPEN', 'IN_PROGRESS') AND NOT archived
+			ORDER BY created_at DESC, id DESC LIMIT 20
+			""");
+
+		assertThat(plan).containsAnyOf(indexFamily("idx_incidents_active_created")).doesNotContain("Sort");
+	}
+
+	@Test
+	void activePriorityPageUsesPartialIndex() {
+		String plan = explain(ACTIVE_PAGE.formatted("'HIGH'"));
+
+		assertThat(plan).containsAnyOf(partialIndexes());
+	}
+
+	@Test
+	void genericPlanStillUsesPartialIndexBecauseStatusIsLiteral() {
+		String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET plan_cache_mode = force_generic_plan");
+				statement.execute("PREPARE active_page(text) AS " + ACTIVE_PAGE.formatted("$1"));
+				List<String> lines = new ArrayList<>();
+				try (ResultSet rows = statement.executeQuery("EXPLAIN EXECUTE active_page('HIGH')")) {
+					while (rows.next()) {
+						lines.add(rows.getString(1));
+					}
+				}
+				statement.execute("DEALLOCATE active_page");
+				statement.execute("RESET plan_cache_mode");
+				return String.join("\n", lines);
+			}
+		});
+
+		assertThat(plan).containsAnyOf(partialIndexes())
+			.doesNotContain("incidents_archive");
+	}
+
+	@Test
+	void serviceReturnsOnlyActiveIncidentsNewestFirst() {
+		CursorPageResponse<IncidentResponseDto> page = incidentService.findActive(
+			new FilterUtils.IncidentFilters(null, IncidentPriority.HIGH, null), null, 20);
+
+		assertThat(page.getContent()).hasSize(20)
+			.allSatisfy(incident -> {
+				assertThat(incident.getStatus().isActive()).isTrue();
+				assertThat(incident.getPriority()).isEqualTo(IncidentPriority.HIGH);
+			});
+		assertThat(page.getContent()).extracting(IncidentResponseDto::getCreatedAt)
+			.isSortedAccordingTo((a, b) -> b.compareTo(a));
+		assertThat(page.isHasNext()).isTrue();
+	}
+
+	@Test
+	void terminalStatusFilterIsRejected() {
+		assertThatThrownBy(() -> incidentService.findActive(
+				new FilterUtils.IncidentFilters(Status.RESOLVED, null, null), null, 20))
+			.isInstanceOf(ValidationException.class);
+	}
+
+	private String explain(String sql) {
+		return QueryPlans.explain(jdbcTemplate, sql);
+	}
+
+	private String[] indexFamily(String indexName) {
+		return QueryPlans.indexFamily(jdbcTemplate, indexName);
+	}
+
+	/**
+	 * Com poucos ativos o planejador pode preferir o parcial por created_at e filtrar a prioridade;
+	 * qualquer um dos dois parciais atende, o que não pode é cair nos índices completos.
+	 */
+	private String[] partialIndexes() {
+		return Stream.of("idx_incidents_active_priority_created", "idx_incidents_active_created")
+			.flatMap(name -> Arrays.stream(indexFamily(name)))
+			.toArray(String[]::new);
+	}
+}
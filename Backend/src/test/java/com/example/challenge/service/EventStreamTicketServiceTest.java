@@ -0,0 +1,55 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.challenge.PostgresContainerTest;
+
+/**
+ * Tickets do stream SSE contra o PostgreSQL: valem uma única vez e só dentro da validade.
+ */
+@SpringBootTest
+class EventStreamTicketServiceTest extends PostgresContainerTest {
+
+	@Autowired
+	private EventStreamTicketService ticketService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private UUID userId;
+
+	@BeforeEach
+	void seedUser() {
+		userId = jdbcTemplate.queryForObject(
+			"INSERT INTO users (username, password) VALUES (?, 'x') RETURNING user_id", UUID.class,
+			"ticket-" + UUID.randomUUID());
+	}
+
+	@Test
+	void ticketIsAcceptedOnlyOnce() {
+		String ticket = ticketService.issue(userId);
+
+		assertThat(ticketService.consume(ticket)).isTrue();
+		assertThat(ticketService.consume(ticket)).isFalse();
+		assertThat(ticketService.consume("unknown")).isFalse();
+		assertThat(ticketService.consume(null)).isFalse();
+	}
+
+	@Test
+	void expiredTicketIsRejectedAndCleanedUp() {
+		String ticket = ticketService.issue(userId);
+		jdbcTemplate.update("UPDATE event_stream_tickets SET expires_at = now() - interval '1 second'");
+
+		assertThat(ticketService.consume(ticket)).isFalse();
+		ticketService.deleteExpired();
+		assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM event_stream_tickets", Long.class)).isZero();
+	}
+}
@@ -0,0 +1,178 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.challenge.PostgresContainerTest;
+import com.example.challenge.QueryPlans;
+import com.example.challenge.dto.request.CommentCreateDto;
+import com.example.challenge.dto.request.StatusUpdateDto;
+import com.example.challenge.dto.response.BulkStatusUpdateResponseDto;
+import com.example.challenge.entity.Incident;
+import com.example.challenge.entity.Status;
+import com.example.challenge.repository.IncidentRepository;
+import com.example.challenge.shared.util.FilterUtils;
+
+/**
+ * Arquivamento sobre o particionamento da V12: o job move só incidents encerrados e antigos
+ * (com seus comentários), as listagens padrão não enxergam o arquivo e um intervalo de datas antigo o inclui.
+ * Sem a FK de incident_tags, as tags são apagadas pelo serviço e pelo job, sem esvaziar o cache de incidents.
+ */
+@SpringBootTest
+class IncidentArchivePartitionTest extends PostgresContainerTest {
+
+	@Autowired
+	private IncidentArchiveService archiveService;
+
+	@Autowired
+	private IncidentService incidentService;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private IncidentRepository incidentRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void seed() {
+		jdbcTemplate.execute("DELETE FROM comments");
+		jdbcTemplate.execute("DELETE FROM incident_tags");
+		jdbcTemplate.execute("DELETE FROM incidents");
+		insertIncidents(30, "RESOLVED", "2 years");
+		insertIncidents(5, "OPEN", "2 years");
+		insertIncidents(10, "CANCELLED", "10 days");
+		jdbcTemplate.execute("""
+			INSERT INTO comments (incidentId, author, message, createdAt)
+			SELECT id, 'ana', 'Comentário', created_at FROM incidents
+			""");
+	}
+
+	@Test
+	void archivesOnlyOldClosedIncidentsWithTheirComments() {
+		archiveService.archive();
+
+		assertThat(count("incidents_archive")).isEqualTo(30);
+		assertThat(count("incidents_live")).isEqualTo(15);
+		assertThat(count("comments_archive")).isEqualTo(30);
+		assertThat(count("comments_live")).isEqualTo(15);
+	}
+
+	@Test
+	void defaultListingSkipsArchiveUntilDateRangeAsksForIt() {
+		archiveService.archive();
+
+		FilterUtils.IncidentFilters noRange = new FilterUtils.IncidentFilters(null, null, null);
+		FilterUtils.IncidentFilters oldRange = new FilterUtils.IncidentFilters(null, null, null, null, null,
+			LocalDateTime.now().minusYears(3), null, null, null, null);
+
+		assertThat(incidentService.findAll(noRange, PageRequest.of(0, 100), true).getTotalElements()).isEqualTo(15);
+		assertThat(incidentService.findAll(oldRange, PageRequest.of(0, 100), true).getTotalElements()).isEqualTo(45);
+		assertThat(QueryPlans.explain(jdbcTemplate, "SELECT id FROM incidents WHERE NOT archived"))
+			.doesNotContain("incidents_archive");
+	}
+
+	@Test
+	void archivedIncidentIsStillReachableByIdAndReturnsToLiveWhenReopened() {
+		archiveService.archive();
+		UUID archivedId = jdbcTemplate.queryForObject("SELECT id FROM incidents_archive LIMIT 1", UUID.class);
+
+		assertThat(incidentService.findById(archivedId).getStatus()).isEqualTo(Status.RESOLVED);
+
+		incidentService.updateStatus(archivedId, new StatusUpdateDto(Status.OPEN));
+
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT count(*) FROM incidents_live WHERE id = ?", Long.class, archivedId)).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT count(*) FROM comments_live WHERE incidentId = ?", Long.class, archivedId)).isEqualTo(1);
+	}
+
+	@Test
+	void commentOnArchivedIncidentIsStoredInTheArchivePartition() {
+		archiveService.archive();
+		UUID archivedId = jdbcTemplate.queryForObject("SELECT id FROM incidents_archive LIMIT 1", UUID.class);
+
+		commentService.createComment(archivedId, new CommentCreateDto("bia", "Post-mortem anexado"));
+
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT count(*) FROM comments_archive WHERE incidentId = ?", Long.class, archivedId)).isEqualTo(2);
+		assertThat(commentService.findCommentsByIncident(archivedId)).hasSize(2);
+	}
+
+	@Test
+	void bulkReopenRestoresCommentsAndReportsSkippedIds() {
+		archiveService.archive();
+		UUID archivedId = jdbcTemplate.queryForObject("SELECT id FROM incidents_archive LIMIT 1", UUID.class);
+		UUID missingId = UUID.randomUUID();
+		FilterUtils.IncidentFilters oldRange = new FilterUtils.IncidentFilters(null, null, null, null, null,
+			LocalDateTime.now().minusYears(3), null, null, null, null);
+
+		BulkStatusUpdateResponseDto result = incidentService.updateStatusBulk(
+			oldRange, List.of(archivedId, missingId), Status.OPEN);
+
+		assertThat(result.affected()).isEqualTo(1);
+		assertThat(result.skippedIds()).containsExactly(missingId);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT count(*) FROM comments_live WHERE incidentId = ?", Long.class, archivedId)).isEqualTo(1);
+	}
+
+	@Test
+	void tagsAreRemovedWithTheIncidentAndOrphansByTheArchiveJob() {
+		UUID deletedId = jdbcTemplate.queryForObject("SELECT id FROM incidents_live LIMIT 1", UUID.class);
+		jdbcTemplate.update("INSERT INTO incident_tags (incident_id, tag) VALUES (?, 'db')", deletedId);
+		jdbcTemplate.update("INSERT INTO incident_tags (incident_id, tag) VALUES (?, 'orfa')", UUID.randomUUID());
+
+		incidentService.deleteIncident(deletedId);
+		assertThat(count("incident_tags")).isEqualTo(1);
+
+		archiveService.archive();
+		assertThat(count("incident_tags")).isZero();
+	}
+
+	@Test
+	void orphanTagCleanupKeepsCachedIncidents() {
+		UUID cachedId = jdbcTemplate.queryForObject("SELECT id FROM incidents_live LIMIT 1", UUID.class);
+		jdbcTemplate.update("INSERT INTO incident_tags (incident_id, tag) VALUES (?, 'orfa')", UUID.randomUUID());
+		incidentRepository.findById(cachedId);
+		assertThat(entityManagerFactory.getCache().contains(Incident.class, cachedId)).isTrue();
+
+		Integer removed = transactionTemplate.execute(status -> incidentRepository.deleteOrphanTags());
+
+		assertThat(removed).isEqualTo(1);
+		assertThat(entityManagerFactory.getCache().contains(Incident.class, cachedId)).isTrue();
+	}
+
+	private void insertIncidents(int total, String status, String age) {
+		jdbcTemplate.update("""
+			INSERT INTO incidents (title, priority, status, responsibleEmail, created_at, updated_at)
+			SELECT 'Incident ' || n, 'LOW', ?, 'ops@empresa.com',
+			       now() - ?::interval - n * interval '1 minute', now() - ?::interval
+			FROM generate_series(1, ?) AS n
+			""", status, age, age, total);
+	}
+
+	private long count(String table) {
+		return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+	}
+}
@@ -0,0 +1,51 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.challenge.repository.CommentRepository;
+import com.example.challenge.repository.IncidentRepository;
+import com.example.challenge.shared.util.FilterUtils;
+
+class IncidentArchiveServiceTest {
+
+	private final IncidentArchiveService archive = new IncidentArchiveService(
+		mock(IncidentRepository.class), mock(CommentRepository.class), mock(TransactionTemplate.class),
+		Duration.ofDays(365), 500, 10);
+
+	@Test
+	void queriesWithoutCreatedRangeStayOnLivePartition() {
+		FilterUtils.IncidentFilters filters = new FilterUtils.IncidentFilters(null, null, "disk");
+
+		assertThat(archive.reachesArchive(filters)).isFalse();
+		assertThat(archive.scope(filters)).isNotNull();
+	}
+
+	@Test
+	void recentCreatedRangeStaysOnLivePartition() {
+		assertThat(archive.reachesArchive(createdBetween(LocalDateTime.now().minusDays(30), null))).isFalse();
+	}
+
+	@Test
+	void createdRangeBeforeCutoffIncludesArchive() {
+		FilterUtils.IncidentFilters filters = createdBetween(LocalDateTime.now().minusYears(2), null);
+
+		assertThat(archive.reachesArchive(filters)).isTrue();
+		assertThat(archive.scope(filters)).isNull();
+	}
+
+	@Test
+	void openEndedRangeIncludesArchive() {
+		assertThat(archive.reachesArchive(createdBetween(null, LocalDateTime.now().minusDays(1)))).isTrue();
+	}
+
+	private static FilterUtils.IncidentFilters createdBetween(LocalDateTime from, LocalDateTime to) {
+		return new FilterUtils.IncidentFilters(null, null, null, null, null, from, to, null, null, null);
+	}
+}
@@ -0,0 +1,66 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.challenge.dto.response.BulkCreateResponseDto;
+import com.example.challenge.shared.exception.ValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+
+class IncidentBulkServiceTest {
+
+	private static final String ITEM = """
+		{"title":"Disco cheio","description":"d","priority":"HIGH","status":"OPEN",
+		 "responsibleEmail":"ops@empresa.com","tags":["disco"]}""";
+
+	private final IncidentService incidentService = mock(IncidentService.class);
+	private final IncidentBulkService bulkService = new IncidentBulkService(incidentService,
+		Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), 500, 2);
+
+	@Test
+	void stopsReadingAtTheFirstItemOverTheLimit() {
+		// O lixo depois do terceiro item nunca é lido: o limite dispara antes
+		InputStream body = json("[" + ITEM + "," + ITEM + "," + ITEM + ", not json at all");
+
+		assertThatThrownBy(() -> bulkService.createAllFromJsonArray(body))
+			.isInstanceOf(ValidationException.class)
+			.hasMessageContaining("at most 2");
+		verifyNoInteractions(incidentService);
+	}
+
+	@Test
+	void unmappableItemFailsAloneAndTheRestIsStored() throws Exception {
+		when(incidentService.createIncidents(anyList())).thenReturn(List.of(UUID.randomUUID()));
+
+		BulkCreateResponseDto result = bulkService.createAllFromJsonArray(
+			json("[" + ITEM + ", {\"priority\": \"URGENTISSIMA\"}]"));
+
+		assertThat(result.getCreated()).isEqualTo(1);
+		assertThat(result.getFailed()).isEqualTo(1);
+	}
+
+	@Test
+	void malformedArrayIsRejectedBeforeStoringAnything() {
+		assertThatThrownBy(() -> bulkService.createAllFromJsonArray(json("[" + ITEM + ", {")))
+			.isInstanceOf(ValidationException.class);
+		verifyNoInteractions(incidentService);
+	}
+
+	private static InputStream json(String body) {
+		return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+	}
+}
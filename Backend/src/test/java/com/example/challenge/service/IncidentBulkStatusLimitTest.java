@@ -0,0 +1,58 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.challenge.PostgresContainerTest;
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+import com.example.challenge.shared.exception.ValidationException;
+import com.example.challenge.shared.util.FilterUtils;
+
+/**
+ * Um filtro que alcança mais incidents que incidents.bulk.status-max-matches é recusado sem mover nenhum.
+ */
+@SpringBootTest(properties = "incidents.bulk.status-max-matches=3")
+class IncidentBulkStatusLimitTest extends PostgresContainerTest {
+
+	@Autowired
+	private IncidentService incidentService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void seed() {
+		jdbcTemplate.execute("DELETE FROM incident_tags");
+		jdbcTemplate.execute("DELETE FROM incidents");
+		jdbcTemplate.update("""
+			INSERT INTO incidents (title, priority, status, responsibleEmail)
+			SELECT 'Incident ' || n, CASE WHEN n <= 3 THEN 'HIGH' ELSE 'LOW' END, 'OPEN', 'ops@empresa.com'
+			FROM generate_series(1, 5) AS n
+			""");
+	}
+
+	@Test
+	void filterOverTheCapIsRejectedWithoutUpdating() {
+		assertThatThrownBy(() -> incidentService.updateStatusBulk(
+				new FilterUtils.IncidentFilters(Status.OPEN, null, null), null, Status.RESOLVED))
+			.isInstanceOf(ValidationException.class);
+
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT count(*) FROM incidents WHERE status = 'OPEN'", Long.class)).isEqualTo(5);
+	}
+
+	@Test
+	void filterWithinTheCapIsApplied() {
+		FilterUtils.IncidentFilters highOnly = new FilterUtils.IncidentFilters(Status.OPEN,
+			IncidentPriority.HIGH, null);
+
+		assertThat(incidentService.updateStatusBulk(highOnly, null, Status.RESOLVED).affected()).isEqualTo(3);
+	}
+}
@@ -0,0 +1,81 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+
+import com.example.challenge.dto.response.IncidentEventDto;
+import com.example.challenge.entity.OutboxEvent;
+import com.example.challenge.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class IncidentEventListenerTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	private OutboxEventRepository repository;
+	private IncidentEventHandler handler;
+	private IncidentEventListener listener;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(OutboxEventRepository.class);
+		handler = mock(IncidentEventHandler.class);
+		listener = new IncidentEventListener(mock(JdbcConnectionDetails.class), repository, List.of(handler),
+			objectMapper, 1000, Duration.ofSeconds(5));
+	}
+
+	@Test
+	void deliversInIdOrderAndContinuesAfterHandlerFailure() throws Exception {
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+		when(repository.findAllById(List.of(2L, 1L))).thenReturn(List.of(outboxEvent(2L, second), outboxEvent(1L, first)));
+		List<UUID> delivered = new ArrayList<>();
+		doAnswer(invocation -> {
+			IncidentEventDto event = invocation.getArgument(0);
+			delivered.add(event.getIncidentId());
+			if (first.equals(event.getIncidentId())) {
+				throw new IllegalStateException("down");
+			}
+			return null;
+		}).when(handler).handle(any());
+
+		listener.deliver(List.of(2L, 1L));
+
+		assertThat(delivered).containsExactly(first, second);
+	}
+
+	@Test
+	void skipsUnreadablePayloads() throws Exception {
+		OutboxEvent broken = new OutboxEvent("INCIDENT_UPDATED", UUID.randomUUID(), "{not json");
+		broken.setId(1L);
+		when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(broken, outboxEvent(2L, UUID.randomUUID())));
+
+		listener.deliver(List.of(1L, 2L));
+
+		verify(handler, times(1)).handle(any());
+	}
+
+	private OutboxEvent outboxEvent(long id, UUID incidentId) throws Exception {
+		IncidentEventDto event = new IncidentEventDto(IncidentEventDto.Type.INCIDENT_UPDATED, incidentId, null,
+			null, null, null);
+		OutboxEvent outboxEvent = new OutboxEvent(event.getType().name(), incidentId,
+			objectMapper.writeValueAsString(event));
+		outboxEvent.setId(id);
+		return outboxEvent;
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.challenge.dto.response.IncidentEventDto;
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+
+class IncidentEventStreamFilterTest {
+
+	private final IncidentEventStream.Filter filter = new IncidentEventStream.Filter(
+		List.of(Status.OPEN), List.of(IncidentPriority.HIGH), List.of("database"));
+
+	@Test
+	void acceptsEventMatchingEveryCriterion() {
+		assertThat(filter.matches(event(Status.OPEN, IncidentPriority.HIGH, List.of("database", "prod")))).isTrue();
+	}
+
+	@Test
+	void rejectsEventOutsideAnyCriterion() {
+		assertThat(filter.matches(event(Status.RESOLVED, IncidentPriority.HIGH, List.of("database")))).isFalse();
+		assertThat(filter.matches(event(Status.OPEN, IncidentPriority.LOW, List.of("database")))).isFalse();
+		assertThat(filter.matches(event(Status.OPEN, IncidentPriority.HIGH, null))).isFalse();
+	}
+
+	@Test
+	void acceptsIncidentLeavingFilteredStatus() {
+		IncidentEventDto resolved = event(Status.RESOLVED, IncidentPriority.HIGH, List.of("database"));
+		resolved.setPreviousStatus(Status.OPEN);
+		assertThat(filter.matches(resolved)).isTrue();
+
+		IncidentEventDto bulkResolved = batch(Status.RESOLVED, IncidentPriority.HIGH, List.of("database"));
+		bulkResolved.setPreviousStatus(Status.OPEN);
+		assertThat(filter.matches(bulkResolved)).isTrue();
+
+		IncidentEventDto unrelated = event(Status.RESOLVED, IncidentPriority.HIGH, List.of("database"));
+		unrelated.setPreviousStatus(Status.IN_PROGRESS);
+		assertThat(filter.matches(unrelated)).isFalse();
+	}
+
+	@Test
+	void batchEventsAreFilteredByStatusPriorityAndTags() {
+		assertThat(filter.matches(batch(Status.OPEN, IncidentPriority.HIGH, List.of("database", "network")))).isTrue();
+		assertThat(filter.matches(batch(Status.CANCELLED, IncidentPriority.HIGH, List.of("database")))).isFalse();
+		assertThat(filter.matches(batch(Status.OPEN, IncidentPriority.LOW, List.of("database")))).isFalse();
+		assertThat(filter.matches(batch(Status.OPEN, IncidentPriority.HIGH, List.of()))).isFalse();
+		assertThat(new IncidentEventStream.Filter(null, null, null)
+			.matches(batch(Status.OPEN, IncidentPriority.LOW, List.of()))).isTrue();
+	}
+
+	private static IncidentEventDto batch(Status status, IncidentPriority priority, List<String> tags) {
+		return IncidentEventDto.batch(IncidentEventDto.Type.INCIDENTS_STATUS_CHANGED, status, priority, tags, ids(12));
+	}
+
+	private static List<UUID> ids(int count) {
+		return Stream.generate(UUID::randomUUID).limit(count).toList();
+	}
+
+	private IncidentEventDto event(Status status, IncidentPriority priority, List<String> tags) {
+		return new IncidentEventDto(IncidentEventDto.Type.INCIDENT_UPDATED, UUID.randomUUID(), null,
+			status, priority, tags);
+	}
+}
@@ -0,0 +1,156 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.challenge.PostgresContainerTest;
+import com.example.challenge.dto.response.IncidentEventDto;
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+import com.example.challenge.shared.util.FilterUtils;
+
+/**
+ * Entrega do outbox contra o PostgreSQL: nada se perde quando uma transação confirma fora da ordem dos ids,
+ * o purge preserva pendentes e o NOTIFY chega ao IncidentEventListener, com prioridade e tags nos eventos em massa.
+ * O relay agendado fica parado.
+ */
+@SpringBootTest(properties = "incidents.outbox.poll-interval-ms=3600000")
+class IncidentOutboxDeliveryTest extends PostgresContainerTest {
+
+	private static final BlockingQueue<IncidentEventDto> received = new LinkedBlockingQueue<>();
+
+	@TestConfiguration
+	static class CapturingHandler {
+
+		@Bean
+		IncidentEventHandler capturingIncidentEventHandler() {
+			return received::add;
+		}
+	}
+
+	@Autowired
+	private IncidentOutboxRelay relay;
+
+	@Autowired
+	private IncidentService incidentService;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void clear() {
+		jdbcTemplate.execute("DELETE FROM outbox_events");
+		received.clear();
+	}
+
+	@Test
+	void eventCommittedAfterAHigherIdIsStillDelivered() throws Exception {
+		UUID late = UUID.randomUUID();
+		UUID early = UUID.randomUUID();
+
+		try (Connection open = dataSource.getConnection()) {
+			open.setAutoCommit(false);
+			insertEvent(open, late);
+			jdbcTemplate.update(insertSql(), early.toString(), payload(early));
+
+			relay.relay();
+			open.commit();
+		}
+		relay.relay();
+
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT count(*) FROM outbox_events WHERE processed_at IS NULL", Long.class)).isZero();
+		assertThat(take(2)).extracting(IncidentEventDto::getIncidentId).containsExactlyInAnyOrder(early, late);
+	}
+
+	@Test
+	void purgeKeepsEventsThatWereNeverPublished() {
+		UUID pending = UUID.randomUUID();
+		jdbcTemplate.update(insertSql(), pending.toString(), payload(pending));
+		jdbcTemplate.update("UPDATE outbox_events SET created_at = now() - interval '1 day'");
+
+		relay.purge();
+		assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events", Long.class)).isEqualTo(1);
+
+		relay.relay();
+		jdbcTemplate.update("UPDATE outbox_events SET processed_at = now() - interval '1 day'");
+		relay.purge();
+		assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events", Long.class)).isZero();
+	}
+
+	@Test
+	void bulkStatusEventsCarryPriorityAndTagsOfTheirIncidents() throws Exception {
+		UUID high = insertIncident("HIGH", "database");
+		UUID low = insertIncident("LOW", "network");
+		jdbcTemplate.execute("DELETE FROM outbox_events");
+
+		incidentService.updateStatusBulk(new FilterUtils.IncidentFilters(null, null, null), List.of(high, low),
+			Status.RESOLVED);
+		relay.relay();
+
+		assertThat(take(2))
+			.allSatisfy(event -> assertThat(event.getType()).isEqualTo(IncidentEventDto.Type.INCIDENTS_STATUS_CHANGED))
+			.extracting(IncidentEventDto::getPriority, IncidentEventDto::getTags, IncidentEventDto::getIncidentIds)
+			.containsExactlyInAnyOrder(
+				tuple(IncidentPriority.HIGH, List.of("database"), List.of(high)),
+				tuple(IncidentPriority.LOW, List.of("network"), List.of(low)));
+	}
+
+	private UUID insertIncident(String priority, String tag) {
+		UUID id = jdbcTemplate.queryForObject("""
+			INSERT INTO incidents (title, priority, status, responsibleEmail)
+			VALUES ('Incident', ?, 'OPEN', 'ops@empresa.com') RETURNING id
+			""", UUID.class, priority);
+		jdbcTemplate.update("INSERT INTO incident_tags (incident_id, tag) VALUES (?, ?)", id, tag);
+		return id;
+	}
+
+	private List<IncidentEventDto> take(int count) throws InterruptedException {
+		List<IncidentEventDto> events = new ArrayList<>();
+		while (events.size() < count) {
+			IncidentEventDto event = received.poll(10, TimeUnit.SECONDS);
+			if (event == null) {
+				break;
+			}
+			events.add(event);
+		}
+		return events;
+	}
+
+	private static void insertEvent(Connection connection, UUID incidentId) throws Exception {
+		try (var statement = connection.prepareStatement(insertSql())) {
+			statement.setString(1, incidentId.toString());
+			statement.setString(2, payload(incidentId));
+			statement.executeUpdate();
+		}
+	}
+
+	private static String insertSql() {
+		return "INSERT INTO outbox_events (event_type, incident_id, payload) VALUES ('INCIDENT_UPDATED', ?::uuid, ?::jsonb)";
+	}
+
+	private static String payload(UUID incidentId) {
+		return "{\"type\":\"INCIDENT_UPDATED\",\"incidentId\":\"" + incidentId + "\"}";
+	}
+}
@@ -0,0 +1,100 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.challenge.repository.OutboxEventRepository;
+
+class IncidentOutboxRelayTest {
+
+	private OutboxEventRepository repository;
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		repository = mock(OutboxEventRepository.class);
+		transactionTemplate = mock(TransactionTemplate.class);
+		when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+			((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+		when(repository.claimPending(anyInt())).thenReturn(List.of());
+	}
+
+	@Test
+	void publishesClaimedIdsBeforeMarkingThemProcessed() {
+		when(repository.claimPending(10)).thenReturn(List.of(4L, 5L, 7L), List.of());
+
+		relay(10).relay();
+
+		InOrder order = inOrder(repository);
+		order.verify(repository).publish(IncidentOutboxRelay.CHANNEL, "4,5,7");
+		order.verify(repository).markProcessed(eq(List.of(4L, 5L, 7L)), any());
+		verify(repository, times(1)).claimPending(10);
+	}
+
+	@Test
+	void keepsClaimingWhileBatchesAreFull() {
+		when(repository.claimPending(2)).thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+
+		relay(2).relay();
+
+		verify(repository, times(3)).claimPending(2);
+		verify(repository, times(3)).markProcessed(anyList(), any());
+	}
+
+	@Test
+	void splitsLargeBatchesAcrossNotifications() {
+		List<Long> ids = LongStream.rangeClosed(1, IncidentOutboxRelay.IDS_PER_NOTIFICATION + 1).boxed().toList();
+		when(repository.claimPending(anyInt())).thenReturn(ids, List.of());
+
+		relay(1000).relay();
+
+		verify(repository, times(2)).publish(eq(IncidentOutboxRelay.CHANNEL), anyString());
+		verify(repository).publish(IncidentOutboxRelay.CHANNEL, String.valueOf(ids.size()));
+		verify(repository).markProcessed(eq(ids), any());
+	}
+
+	@Test
+	void failedPublishLeavesEventsPending() {
+		when(repository.claimPending(10)).thenReturn(List.of(1L));
+		doThrow(new IllegalStateException("connection lost")).when(repository).publish(anyString(), anyString());
+
+		assertThatThrownBy(() -> relay(10).relay()).isInstanceOf(IllegalStateException.class);
+		verify(repository, never()).markProcessed(anyList(), any());
+	}
+
+	@Test
+	void purgeDeletesOnlyProcessedEventsPastRetention() {
+		relay(10).purge();
+
+		verify(repository).deleteProcessedBefore(argThat(cutoff ->
+			cutoff.isBefore(LocalDateTime.now().minusMinutes(9)) && cutoff.isAfter(LocalDateTime.now().minusMinutes(11))));
+	}
+
+	private IncidentOutboxRelay relay(int batchSize) {
+		return new IncidentOutboxRelay(repository, transactionTemplate, batchSize, 5, Duration.ofMinutes(10));
+	}
+}
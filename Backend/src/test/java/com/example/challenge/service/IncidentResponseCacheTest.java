@@ -0,0 +1,60 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.challenge.dto.response.IncidentResponseDto;
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+
+class IncidentResponseCacheTest {
+
+	private final IncidentResponseCache cache = new IncidentResponseCache(100, Duration.ofMinutes(1));
+	private final UUID id = UUID.randomUUID();
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void repeatedReadsLoadOnce() {
+		cache.get(id, this::load);
+		cache.get(id, this::load);
+
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void evictInsideTransactionAlsoDropsEntryCachedBeforeCommit() {
+		cache.get(id, this::load);
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.evict(id);
+		cache.get(id, this::load);
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCommit();
+		}
+		cache.get(id, this::load);
+
+		assertThat(loads).hasValue(3);
+	}
+
+	private IncidentResponseDto load(UUID key) {
+		loads.incrementAndGet();
+		return new IncidentResponseDto(key, "Incident " + loads.get(), null, IncidentPriority.LOW,
+			Status.OPEN, "ops@empresa.com", null, LocalDateTime.now(), LocalDateTime.now());
+	}
+}
@@ -0,0 +1,87 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.challenge.PostgresContainerTest;
+import com.example.challenge.dto.request.IncidentCreateDto;
+import com.example.challenge.dto.response.BulkStatusUpdateResponseDto;
+import com.example.challenge.dto.response.IncidentResponseDto;
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+import com.example.challenge.shared.dto.PageResponse;
+import com.example.challenge.shared.util.FilterUtils;
+
+/**
+ * Busca FULLTEXT/TRIGRAM no banco real: a relevância ordena só a página, e as agregações
+ * sobre o mesmo filtro (COUNT, bulk por status) não recebem ORDER BY.
+ */
+@SpringBootTest
+class IncidentSearchTest extends PostgresContainerTest {
+
+	@Autowired
+	private IncidentService incidentService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void seed() {
+		jdbcTemplate.execute("DELETE FROM incident_tags");
+		jdbcTemplate.execute("DELETE FROM incidents");
+		create("Timeout no banco", "Conexão com o banco caiu por timeout no banco principal");
+		create("Fila atrasada", "Consumidor parado após timeout");
+		create("Login lento", "Tela de login demora para abrir");
+	}
+
+	@Test
+	void fullTextPageIsRankedByRelevanceAndCounted() {
+		PageResponse<IncidentResponseDto> page = incidentService.findAll(
+			search("timeout banco", FilterUtils.SearchMode.FULLTEXT), PageRequest.of(0, 10), true);
+
+		assertThat(page.getTotalElements()).isEqualTo(1);
+		assertThat(page.getContent()).extracting(IncidentResponseDto::getTitle).containsExactly("Timeout no banco");
+
+		PageResponse<IncidentResponseDto> single = incidentService.findAll(
+			search("timeout", FilterUtils.SearchMode.FULLTEXT), PageRequest.of(0, 10), false);
+
+		assertThat(single.getContent()).extracting(IncidentResponseDto::getTitle)
+			.containsExactly("Timeout no banco", "Fila atrasada");
+	}
+
+	@Test
+	void trigramPageIsRankedBySimilarity() {
+		PageResponse<IncidentResponseDto> page = incidentService.findAll(
+			search("timeout", FilterUtils.SearchMode.TRIGRAM), PageRequest.of(0, 10), true);
+
+		assertThat(page.getTotalElements()).isEqualTo(2);
+		assertThat(page.getContent().get(0).getTitle()).isEqualTo("Timeout no banco");
+	}
+
+	@Test
+	void bulkStatusUpdateAcceptsSearchFilter() {
+		BulkStatusUpdateResponseDto result = incidentService.updateStatusBulk(
+			search("timeout", FilterUtils.SearchMode.FULLTEXT), null, Status.RESOLVED);
+
+		assertThat(result.affected()).isEqualTo(2);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT count(*) FROM incidents WHERE status = 'RESOLVED'", Long.class)).isEqualTo(2);
+	}
+
+	private void create(String title, String description) {
+		incidentService.createIncident(new IncidentCreateDto(
+			title, description, IncidentPriority.HIGH, Status.OPEN, "ops@empresa.com", List.of("busca")));
+	}
+
+	private static FilterUtils.IncidentFilters search(String term, FilterUtils.SearchMode mode) {
+		return new FilterUtils.IncidentFilters(null, null, term, null, null, null, null, null, null, mode);
+	}
+}
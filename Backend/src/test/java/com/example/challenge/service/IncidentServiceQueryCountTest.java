@@ -0,0 +1,83 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.example.challenge.PostgresContainerTest;
+import com.example.challenge.dto.request.IncidentCreateDto;
+import com.example.challenge.dto.response.IncidentResponseDto;
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+import com.example.challenge.shared.dto.PageResponse;
+import com.example.challenge.shared.util.FilterUtils;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class IncidentServiceQueryCountTest extends PostgresContainerTest {
+
+	@Autowired
+	private IncidentService incidentService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		for (int i = 0; i < 60; i++) {
+			incidentService.createIncident(new IncidentCreateDto(
+				"Incident de carga " + i, "Descrição " + i, IncidentPriority.MEDIUM, Status.OPEN,
+				"carga@empresa.com", List.of("carga", "tag-" + i)));
+		}
+	}
+
+	@Test
+	void listPageLoadsTagsWithConstantStatementCount() {
+		long smallPage = statementsFor(5);
+		long largePage = statementsFor(50);
+
+		assertThat(largePage).isEqualTo(smallPage);
+	}
+
+	@Test
+	void untaggedIncidentHasEmptyTagsOnBothReadPaths() {
+		IncidentResponseDto created = incidentService.createIncident(new IncidentCreateDto(
+			"Sem tags", "Descrição", IncidentPriority.LOW, Status.IN_PROGRESS, "carga@empresa.com", null));
+
+		PageResponse<IncidentResponseDto> page = incidentService.findAll(
+			new FilterUtils.IncidentFilters(Status.IN_PROGRESS, null, null), PageRequest.of(0, 100), true);
+
+		assertThat(created.getTags()).isEmpty();
+		assertThat(page.getContent()).filteredOn(incident -> incident.getId().equals(created.getId()))
+			.singleElement()
+			.satisfies(incident -> assertThat(incident.getTags()).isNotNull().isEmpty());
+	}
+
+	private long statementsFor(int size) {
+		statistics.clear();
+
+		PageResponse<IncidentResponseDto> page = incidentService.findAll(
+			new FilterUtils.IncidentFilters(Status.OPEN, null, null),
+			PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt")),
+			true);
+
+		assertThat(page.getContent()).hasSize(size);
+		assertThat(page.getContent()).allSatisfy(incident -> assertThat(incident.getTags()).isNotEmpty());
+
+		return statistics.getPrepareStatementCount();
+	}
+}
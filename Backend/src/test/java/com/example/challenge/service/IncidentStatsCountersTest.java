@@ -0,0 +1,52 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.challenge.entity.IncidentPriority;
+import com.example.challenge.entity.Status;
+import com.example.challenge.repository.IncidentCount;
+import com.example.challenge.repository.IncidentCountProjection;
+import com.example.challenge.repository.IncidentRepository;
+
+class IncidentStatsCountersTest {
+
+	private final IncidentRepository incidentRepository = mock(IncidentRepository.class);
+	private final IncidentStatsCounters counters = new IncidentStatsCounters(incidentRepository);
+
+	@Test
+	void reconcileReplacesCountsWithDatabaseTotals() {
+		counters.recordCreated(Status.OPEN, IncidentPriority.HIGH);
+		when(incidentRepository.countByStatusAndPriority())
+			.thenReturn(List.of(new IncidentCount(Status.OPEN, IncidentPriority.HIGH, 7)));
+
+		counters.reconcile();
+
+		assertThat(total(Status.OPEN, IncidentPriority.HIGH)).isEqualTo(7);
+	}
+
+	@Test
+	void deltaCommittedDuringReconcileQueryIsKept() {
+		when(incidentRepository.countByStatusAndPriority()).thenAnswer(invocation -> {
+			// Commit concorrente depois do snapshot do GROUP BY
+			counters.recordCreated(Status.OPEN, IncidentPriority.LOW);
+			return List.of(new IncidentCount(Status.OPEN, IncidentPriority.LOW, 3));
+		});
+
+		counters.reconcile();
+
+		assertThat(total(Status.OPEN, IncidentPriority.LOW)).isEqualTo(4);
+	}
+
+	private long total(Status status, IncidentPriority priority) {
+		return counters.snapshot().stream()
+			.filter(cell -> cell.getStatus() == status && cell.getPriority() == priority)
+			.mapToLong(IncidentCountProjection::getTotal)
+			.findFirst().orElseThrow();
+	}
+}
@@ -0,0 +1,88 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.example.challenge.dto.request.LoginRequest;
+import com.example.challenge.entity.Role;
+import com.example.challenge.entity.User;
+import com.example.challenge.repository.UsersRepository;
+
+class LoginServiceTest {
+
+	private final UsersRepository repository = mock(UsersRepository.class);
+	private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(5);
+	private final LoginService loginService = new LoginService(repository, encoder, 5, Duration.ofMinutes(1), 100);
+
+	@Test
+	void repeatedLoginIsServedFromVerifiedCache() {
+		User user = user(encoder.encode("secret"));
+		when(repository.findByUsername("ana")).thenReturn(Optional.of(user));
+
+		LoginService.VerifiedLogin first = loginService.authenticate(new LoginRequest("ana", "secret"));
+		LoginService.VerifiedLogin second = loginService.authenticate(new LoginRequest("ana", "secret"));
+
+		assertThat(second).isEqualTo(first);
+		assertThat(first.scopes()).isEqualTo("BASIC");
+		verify(repository, times(1)).findByUsername("ana");
+	}
+
+	@Test
+	void wrongPasswordIsNeverCached() {
+		when(repository.findByUsername("ana")).thenReturn(Optional.of(user(encoder.encode("secret"))));
+
+		assertThatThrownBy(() -> loginService.authenticate(new LoginRequest("ana", "wrong")))
+			.isInstanceOf(BadCredentialsException.class);
+		assertThatThrownBy(() -> loginService.authenticate(new LoginRequest("ana", "wrong")))
+			.isInstanceOf(BadCredentialsException.class);
+		verify(repository, times(2)).findByUsername("ana");
+	}
+
+	@Test
+	void hashWithOtherStrengthIsRehashedOnLogin() {
+		User user = user(new BCryptPasswordEncoder(4).encode("secret"));
+		when(repository.findByUsername("ana")).thenReturn(Optional.of(user));
+
+		loginService.authenticate(new LoginRequest("ana", "secret"));
+
+		assertThat(user.getPassword()).startsWith("$2a$05$");
+		assertThat(encoder.matches("secret", user.getPassword())).isTrue();
+		verify(repository).save(user);
+	}
+
+	@Test
+	void hashWithConfiguredStrengthIsKept() {
+		when(repository.findByUsername("ana")).thenReturn(Optional.of(user(encoder.encode("secret"))));
+
+		loginService.authenticate(new LoginRequest("ana", "secret"));
+
+		verify(repository, never()).save(any());
+	}
+
+	private User user(String encodedPassword) {
+		Role role = new Role();
+		role.setName("BASIC");
+
+		User user = new User();
+		user.setUserId(UUID.randomUUID());
+		user.setUsername("ana");
+		user.setPassword(encodedPassword);
+		user.setRoles(Set.of(role));
+		return user;
+	}
+}
@@ -0,0 +1,94 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import com.example.challenge.entity.RefreshToken;
+import com.example.challenge.entity.Role;
+import com.example.challenge.entity.User;
+import com.example.challenge.repository.RefreshTokenRepository;
+import com.example.challenge.repository.UsersRepository;
+
+class RefreshTokenServiceTest {
+
+	private final RefreshTokenRepository tokens = mock(RefreshTokenRepository.class);
+	private final UsersRepository users = mock(UsersRepository.class);
+	private final RefreshTokenService service = new RefreshTokenService(tokens, users, Duration.ofDays(7));
+
+	private final UUID userId = UUID.randomUUID();
+	private final UUID familyId = UUID.randomUUID();
+	private RefreshToken stored;
+
+	@BeforeEach
+	void setUp() {
+		stored = new RefreshToken("hash", familyId, userId, LocalDateTime.now().plusDays(1));
+		stored.setId(UUID.randomUUID());
+		when(tokens.findByTokenHash(anyString())).thenReturn(Optional.of(stored));
+
+		Role role = new Role();
+		role.setName("ADMIN");
+		User user = new User();
+		user.setUserId(userId);
+		user.setRoles(Set.of(role));
+		when(users.findById(userId)).thenReturn(Optional.of(user));
+	}
+
+	@Test
+	void issuedTokenIsStoredOnlyAsHash() {
+		String token = service.issue(userId);
+
+		ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+		verify(tokens).save(saved.capture());
+		assertThat(saved.getValue().getTokenHash()).hasSize(64).isNotEqualTo(token);
+	}
+
+	@Test
+	void rotationRevokesPresentedTokenAndIssuesNextInSameFamily() {
+		when(tokens.revokeIfActive(eq(stored.getId()), any())).thenReturn(1);
+
+		RefreshTokenService.Rotation rotation = service.rotate("presented");
+
+		assertThat(rotation.login().scopes()).isEqualTo("ADMIN");
+		assertThat(rotation.refreshToken()).isNotBlank();
+		ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+		verify(tokens).save(saved.capture());
+		assertThat(saved.getValue().getFamilyId()).isEqualTo(familyId);
+	}
+
+	@Test
+	void reusingRotatedTokenRevokesWholeFamily() {
+		stored.setRevokedAt(LocalDateTime.now().minusMinutes(1));
+
+		assertThatThrownBy(() -> service.rotate("presented")).isInstanceOf(BadCredentialsException.class);
+
+		verify(tokens).revokeFamily(eq(familyId), any());
+		verify(tokens, never()).save(any());
+	}
+
+	@Test
+	void losingConcurrentRotationIsRejectedWithoutRevokingFamily() {
+		when(tokens.revokeIfActive(eq(stored.getId()), any())).thenReturn(0);
+
+		assertThatThrownBy(() -> service.rotate("presented")).isInstanceOf(BadCredentialsException.class);
+
+		verify(tokens, never()).revokeFamily(any(), any());
+	}
+}
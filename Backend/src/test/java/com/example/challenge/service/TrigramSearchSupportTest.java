@@ -0,0 +1,43 @@
+package com.example.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.challenge.repository.IncidentRepository;
+import com.example.challenge.shared.exception.ValidationException;
+import com.example.challenge.shared.util.FilterUtils;
+
+class TrigramSearchSupportTest {
+
+	private final IncidentRepository repository = mock(IncidentRepository.class);
+	private final TrigramSearchSupport support = new TrigramSearchSupport(repository);
+
+	@Test
+	void rejectsTrigramSearchWithoutExtensionAndChecksOnlyOnce() {
+		when(repository.isTrigramExtensionInstalled()).thenReturn(false);
+
+		assertThatThrownBy(() -> support.check(search(FilterUtils.SearchMode.TRIGRAM)))
+			.isInstanceOf(ValidationException.class);
+		assertThatThrownBy(() -> support.check(search(FilterUtils.SearchMode.TRIGRAM)))
+			.isInstanceOf(ValidationException.class);
+		verify(repository, times(1)).isTrigramExtensionInstalled();
+	}
+
+	@Test
+	void otherModesNeverTouchTheDatabase() {
+		assertThatCode(() -> support.check(search(FilterUtils.SearchMode.FULLTEXT))).doesNotThrowAnyException();
+		assertThatCode(() -> support.check(search(FilterUtils.SearchMode.CONTAINS))).doesNotThrowAnyException();
+		verify(repository, never()).isTrigramExtensionInstalled();
+	}
+
+	private static FilterUtils.IncidentFilters search(FilterUtils.SearchMode mode) {
+		return new FilterUtils.IncidentFilters(null, null, "gateway", null, null, null, null, null, null, mode);
+	}
+}
@@ -1,4 +1,4 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { Router } from '@angular/router';
 import { MatCardModule } from '@angular/material/card';
@@ -9,11 +9,15 @@ import { MatToolbarModule } from '@angular/material/toolbar';
 import { MatMenuModule } from '@angular/material/menu';
 import { MatDividerModule } from '@angular/material/divider';
 import { MatSnackBar } from '@angular/material/snack-bar';
+import { Subscription } from 'rxjs';
+import { debounceTime } from 'rxjs/operators';
 
 import { IncidentService } from '../../services/incident.service';
+import { IncidentEventsService } from '../../services/incident-events.service';
 import { AuthService } from '../../services/auth.service';
 import { IncidentDisplayService } from '../../utils/incident-display.service';
 import { StatsResponse } from '../../models/api-response.model';
+import { Incident } from '../../models/incident.model';
 import { User } from '../../models/user.model';
 
 @Component({
@@ -32,13 +36,17 @@ import { User } from '../../models/user.model';
   templateUrl: './dashboard.component.html',
   styleUrls: ['./dashboard.component.scss']
 })
-export class DashboardComponent implements OnInit {
+export class DashboardComponent implements OnInit, OnDestroy {
   stats: StatsResponse | null = null;
+  activeIncidents: Incident[] = [];
   currentUser: User | null = null;
   isLoading = true;
 
+  private eventsSubscription?: Subscription;
+
   constructor(
     private incidentService: IncidentService,
+    private incidentEvents: IncidentEventsService,
     private authService: AuthService,
     private router: Router,
     private snackBar: MatSnackBar,
@@ -50,10 +58,21 @@ export class DashboardComponent implements OnInit {
     this.authService.currentUser$.subscribe(user => {
       this.currentUser = user;
     });
+
+    // Refresh quietly on live changes; bursts (e.g. bulk updates) collapse into one reload
+    this.eventsSubscription = this.incidentEvents.connect()
+      .pipe(debounceTime(1000))
+      .subscribe(() => this.loadDashboardData(false));
   }
 
-  loadDashboardData(): void {
-    this.isLoading = true;
+  ngOnDestroy(): void {
+    this.eventsSubscription?.unsubscribe();
+  }
+
+  loadDashboardData(showSpinner = true): void {
+    if (showSpinner) {
+      this.isLoading = true;
+    }
     
     this.incidentService.getStats().subscribe({
       next: (stats) => {
@@ -66,6 +85,15 @@ export class DashboardComponent implements OnInit {
         console.error('Dashboard error:', error);
       }
     });
+
+    this.incidentService.getActiveIncidents().subscribe({
+      next: (page) => this.activeIncidents = page.content,
+      error: (error) => console.error('Active incidents error:', error)
+    });
+  }
+
+  navigateToIncident(incident: Incident): void {
+    this.router.navigate(['/incidents', incident.id]);
   }
 
   navigateToIncidents(status?: string): void {
@@ -17,6 +17,15 @@ export interface PageResponse<T> {
   numberOfElements: number;
 }
 
+export interface CursorPageResponse<T> {
+  content: T[];
+  size: number;
+  nextCursor?: string;
+  prevCursor?: string;
+  hasNext: boolean;
+  hasPrevious: boolean;
+}
+
 export interface StatsResponse {
   totalIncidents: number;
   openIncidents: number;
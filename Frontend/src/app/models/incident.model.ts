@@ -52,4 +52,38 @@ export interface IncidentFilters {
   page?: number;
   size?: number;
   sort?: string;
-} 
\ No newline at end of file
+} 
+export type IncidentEventType =
+  | 'INCIDENT_CREATED'
+  | 'INCIDENT_UPDATED'
+  | 'INCIDENT_STATUS_CHANGED'
+  | 'INCIDENT_DELETED'
+  | 'INCIDENTS_CREATED'
+  | 'INCIDENTS_STATUS_CHANGED'
+  | 'COMMENT_CREATED'
+  | 'COMMENT_UPDATED'
+  | 'COMMENT_DELETED';
+
+export interface IncidentEvent {
+  type: IncidentEventType;
+  incidentId?: string;
+  commentId?: string;
+  status?: IncidentStatus;
+  previousStatus?: IncidentStatus;
+  priority?: IncidentPriority;
+  tags?: string[];
+  incidentIds?: string[];
+  affected?: number;
+  occurredAt?: string;
+}
+
+export interface IncidentEventFilters {
+  status?: IncidentStatus[];
+  priority?: IncidentPriority[];
+  tag?: string[];
+}
+
+export interface EventStreamTicket {
+  ticket: string;
+  expiresIn: number;
+}
@@ -0,0 +1,97 @@
+import { Injectable, NgZone } from '@angular/core';
+import { Observable, Subscription } from 'rxjs';
+import { ApiClientService } from './api-client.service';
+import { environment } from '../../environments/environment';
+import {
+  EventStreamTicket,
+  IncidentEvent,
+  IncidentEventFilters,
+  IncidentEventType
+} from '../models/incident.model';
+
+const EVENT_TYPES: IncidentEventType[] = [
+  'INCIDENT_CREATED',
+  'INCIDENT_UPDATED',
+  'INCIDENT_STATUS_CHANGED',
+  'INCIDENT_DELETED',
+  'INCIDENTS_CREATED',
+  'INCIDENTS_STATUS_CHANGED',
+  'COMMENT_CREATED',
+  'COMMENT_UPDATED',
+  'COMMENT_DELETED'
+];
+
+const RECONNECT_DELAY_MS = 5000;
+
+/**
+ * Server-sent incident events. EventSource cannot send an Authorization header, so every
+ * connection exchanges the access token for a single-use ticket passed as ?ticket=.
+ * A used ticket cannot reconnect, so errors open a new connection with a fresh ticket
+ * instead of relying on EventSource's own retry.
+ */
+@Injectable({
+  providedIn: 'root'
+})
+export class IncidentEventsService {
+
+  constructor(private apiClient: ApiClientService, private zone: NgZone) {}
+
+  connect(filters: IncidentEventFilters = {}): Observable<IncidentEvent> {
+    return new Observable<IncidentEvent>(subscriber => {
+      let source: EventSource | null = null;
+      let ticketRequest: Subscription | null = null;
+      let reconnectTimer: ReturnType<typeof setTimeout> | null = null;
+      let closed = false;
+
+      const scheduleReconnect = () => {
+        if (!closed && reconnectTimer === null) {
+          reconnectTimer = setTimeout(() => {
+            reconnectTimer = null;
+            open();
+          }, RECONNECT_DELAY_MS);
+        }
+      };
+
+      const open = () => {
+        ticketRequest = this.apiClient.post<object, EventStreamTicket>('/incidents/events/tickets', {})
+          .subscribe({
+            next: ({ ticket }) => {
+              if (closed) {
+                return;
+              }
+              source = new EventSource(this.buildUrl(ticket, filters));
+              EVENT_TYPES.forEach(type => source!.addEventListener(type, message => {
+                const event = JSON.parse((message as MessageEvent).data) as IncidentEvent;
+                this.zone.run(() => subscriber.next(event));
+              }));
+              source.onerror = () => {
+                source?.close();
+                source = null;
+                scheduleReconnect();
+              };
+            },
+            error: () => scheduleReconnect()
+          });
+      };
+
+      open();
+
+      return () => {
+        closed = true;
+        ticketRequest?.unsubscribe();
+        source?.close();
+        if (reconnectTimer !== null) {
+          clearTimeout(reconnectTimer);
+        }
+      };
+    });
+  }
+
+  private buildUrl(ticket: string, filters: IncidentEventFilters): string {
+    const params = new URLSearchParams({ ticket });
+    filters.status?.forEach(status => params.append('status', status));
+    filters.priority?.forEach(priority => params.append('priority', priority));
+    filters.tag?.forEach(tag => params.append('tag', tag));
+    return `${environment.apiBaseUrl}/incidents/events?${params.toString()}`;
+  }
+}
@@ -8,7 +8,7 @@ import {
   IncidentFilters, 
   StatusUpdateDto 
 } from '../models/incident.model';
-import { PageResponse, StatsResponse } from '../models/api-response.model';
+import { CursorPageResponse, PageResponse, StatsResponse } from '../models/api-response.model';
 
 @Injectable({
   providedIn: 'root'
@@ -23,6 +23,10 @@ export class IncidentService {
     return this.apiClient.getPage<Incident>(this.endpoint, params);
   }
 
+  getActiveIncidents(size = 10): Observable<CursorPageResponse<Incident>> {
+    return this.apiClient.getOne<CursorPageResponse<Incident>>(`${this.endpoint}/active?size=${size}`);
+  }
+
   getIncidentById(id: string): Observable<Incident> {
     return this.apiClient.getOne<Incident>(this.endpoint, id);
   }